@@ -0,0 +1,246 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.commons.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.gen5.commons.util.ClassFileReferenceChecker.ClassFileSummary;
+import org.junit.gen5.commons.util.ClassFileReferenceChecker.SummaryReader;
+
+/**
+ * Persistent index of the {@linkplain ClassFileSummary summaries} of the
+ * class files in a classpath root directory.
+ *
+ * <p>Each entry records the size, the last-modified time, and a hash of the
+ * content of a class file. A class file is only read again if its size or
+ * content has changed. If only its last-modified time has changed, e.g.
+ * after a clean build, its content is hashed but not parsed.
+ *
+ * <p>Indexes are only used if the {@value #INDEX_DIRECTORY_PROPERTY} system
+ * property is set to the directory in which index files should be stored,
+ * typically below the build directory. An index is discarded if it was
+ * written for a different {@link ClassFileReferenceFilter}. Instances are
+ * thread-safe.
+ *
+ * <h3>DISCLAIMER</h3>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 5.0
+ */
+class ClassFileIndex {
+
+	static final String INDEX_DIRECTORY_PROPERTY = "junit.discovery.index.dir";
+
+	private static final String HEADER_PREFIX = "# JUnit class file index v2 ";
+
+	private static final String HASH_ALGORITHM = "SHA-256";
+
+	private static final String CLASS_FILE_SUFFIX = ".class";
+
+	private static final String FIELD_SEPARATOR = "\t";
+
+	private static final String LIST_SEPARATOR = ",";
+
+	/**
+	 * Load the index for the supplied classpath root directory, if indexes are
+	 * enabled.
+	 */
+	static Optional<ClassFileIndex> forClasspathRoot(Path classpathRoot, ClassFileReferenceFilter filter) {
+		String indexDirectory = System.getProperty(INDEX_DIRECTORY_PROPERTY);
+		if (StringUtils.isBlank(indexDirectory) || filter.acceptsAnyClassFile()) {
+			return Optional.empty();
+		}
+		Path root = classpathRoot.toAbsolutePath().normalize();
+		String header = HEADER_PREFIX + String.join(LIST_SEPARATOR, filter.getFragments());
+		Path indexFile = Paths.get(indexDirectory).resolve("classfiles-" + hash(root.toString(), header) + ".idx");
+		ClassFileIndex index = new ClassFileIndex(root, indexFile, header);
+		index.load();
+		return Optional.of(index);
+	}
+
+	private final Path classpathRoot;
+
+	private final Path indexFile;
+
+	private final String header;
+
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	private volatile boolean modified;
+
+	private ClassFileIndex(Path classpathRoot, Path indexFile, String header) {
+		this.classpathRoot = classpathRoot;
+		this.indexFile = indexFile;
+		this.header = header;
+	}
+
+	/**
+	 * Get the summary of the class file for the supplied internal class name
+	 * if it is located in this index's classpath root.
+	 *
+	 * <p>The class file is only read, using the supplied reader, if it is not
+	 * yet indexed or has changed.
+	 */
+	Optional<ClassFileSummary> summarize(String internalName, SummaryReader reader) throws IOException {
+		Path classFile = this.classpathRoot.resolve(internalName + CLASS_FILE_SUFFIX);
+		BasicFileAttributes attributes;
+		try {
+			attributes = Files.readAttributes(classFile, BasicFileAttributes.class);
+		}
+		catch (NoSuchFileException e) {
+			return Optional.empty();
+		}
+		if (!attributes.isRegularFile()) {
+			return Optional.empty();
+		}
+		long size = attributes.size();
+		long lastModified = attributes.lastModifiedTime().toMillis();
+		Entry entry = this.entries.get(internalName);
+		if (entry != null && entry.size == size && entry.lastModified == lastModified) {
+			return Optional.of(entry.summary);
+		}
+
+		byte[] content = Files.readAllBytes(classFile);
+		String contentHash = hash(content);
+		ClassFileSummary summary;
+		if (entry != null && entry.size == size && entry.contentHash.equals(contentHash)) {
+			summary = entry.summary;
+		}
+		else {
+			summary = reader.read(new ByteArrayInputStream(content));
+		}
+		this.entries.put(internalName, new Entry(size, lastModified, contentHash, summary));
+		this.modified = true;
+		return Optional.of(summary);
+	}
+
+	/**
+	 * Write this index to its file if any entry has been added or updated.
+	 *
+	 * <p>Failures are ignored, since the index only serves to speed up
+	 * subsequent scans.
+	 */
+	void saveIfModified() {
+		if (!this.modified) {
+			return;
+		}
+		try {
+			Files.createDirectories(this.indexFile.getParent());
+			Path tempFile = Files.createTempFile(this.indexFile.getParent(), "classfiles-", ".tmp");
+			try (BufferedWriter writer = Files.newBufferedWriter(tempFile, UTF_8)) {
+				writer.write(this.header);
+				writer.newLine();
+				for (Map.Entry<String, Entry> entry : this.entries.entrySet()) {
+					writer.write(entry.getKey() + FIELD_SEPARATOR + entry.getValue().format());
+					writer.newLine();
+				}
+			}
+			Files.move(tempFile, this.indexFile, StandardCopyOption.REPLACE_EXISTING);
+			this.modified = false;
+		}
+		catch (IOException e) {
+			// ignore: the next scan reads all class files again
+		}
+	}
+
+	private void load() {
+		if (!Files.isRegularFile(this.indexFile)) {
+			return;
+		}
+		try (BufferedReader reader = Files.newBufferedReader(this.indexFile, UTF_8)) {
+			if (!this.header.equals(reader.readLine())) {
+				return;
+			}
+			String line;
+			while ((line = reader.readLine()) != null) {
+				int separator = line.indexOf(FIELD_SEPARATOR);
+				this.entries.put(line.substring(0, separator), Entry.parse(line.substring(separator + 1)));
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			// ignore corrupt index files: all class files are read again
+			this.entries.clear();
+		}
+	}
+
+	private static String hash(String... values) {
+		return hash(String.join("\n", values).getBytes(UTF_8)).substring(0, 16);
+	}
+
+	private static String hash(byte[] content) {
+		try {
+			byte[] digest = MessageDigest.getInstance(HASH_ALGORITHM).digest(content);
+			StringBuilder builder = new StringBuilder(digest.length * 2);
+			for (byte b : digest) {
+				builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+			}
+			return builder.toString();
+		}
+		catch (NoSuchAlgorithmException e) {
+			// every Java platform is required to support SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static final class Entry {
+
+		private final long size;
+
+		private final long lastModified;
+
+		private final String contentHash;
+
+		private final ClassFileSummary summary;
+
+		Entry(long size, long lastModified, String contentHash, ClassFileSummary summary) {
+			this.size = size;
+			this.lastModified = lastModified;
+			this.contentHash = contentHash;
+			this.summary = summary;
+		}
+
+		static Entry parse(String value) {
+			String[] fields = value.split(FIELD_SEPARATOR, -1);
+			ClassFileSummary summary = new ClassFileSummary(Boolean.parseBoolean(fields[3]),
+				fields[4].isEmpty() ? emptyList() : asList(fields[4].split(LIST_SEPARATOR)));
+			return new Entry(Long.parseLong(fields[0]), Long.parseLong(fields[1]), fields[2], summary);
+		}
+
+		String format() {
+			return this.size + FIELD_SEPARATOR + this.lastModified + FIELD_SEPARATOR + this.contentHash
+					+ FIELD_SEPARATOR + this.summary.matchesFilter() + FIELD_SEPARATOR
+					+ String.join(LIST_SEPARATOR, this.summary.getTypeReferences());
+		}
+
+	}
+
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.commons.util;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal reader for the parts of a class file that reveal which types the
+ * class references.
+ *
+ * <p>The {@linkplain #readConstantPool() constant pool} is read first so
+ * that callers can stop as soon as a matching constant has been found. The
+ * {@linkplain #readTypeReferences() type references} comprise the
+ * superclass, the interfaces, the runtime-visible annotation types of the
+ * class and its methods, and the member classes of the class.
+ *
+ * <h3>DISCLAIMER</h3>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 5.0
+ */
+class ClassFileReader {
+
+	private static final int MAGIC = 0xCAFEBABE;
+
+	private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+	private static final String INNER_CLASSES = "InnerClasses";
+
+	private final DataInputStream in;
+
+	private String[] utf8Constants;
+
+	private int[] classNameIndexes;
+
+	private int thisClassIndex;
+
+	ClassFileReader(InputStream in) {
+		this.in = new DataInputStream(in);
+	}
+
+	/**
+	 * Read the header and the constant pool and return all UTF-8 constants,
+	 * i.e. all names, descriptors, signatures, and string literals.
+	 */
+	List<String> readConstantPool() throws IOException {
+		if (this.in.readInt() != MAGIC) {
+			throw new IOException("Not a class file");
+		}
+		this.in.readUnsignedShort(); // minor_version
+		this.in.readUnsignedShort(); // major_version
+
+		int count = this.in.readUnsignedShort();
+		this.utf8Constants = new String[count];
+		this.classNameIndexes = new int[count];
+		List<String> constants = new ArrayList<>();
+		for (int i = 1; i < count; i++) {
+			int tag = this.in.readUnsignedByte();
+			switch (tag) {
+				case 1: // Utf8
+					this.utf8Constants[i] = this.in.readUTF();
+					constants.add(this.utf8Constants[i]);
+					break;
+				case 7: // Class
+					this.classNameIndexes[i] = this.in.readUnsignedShort();
+					break;
+				case 8: // String
+				case 16: // MethodType
+				case 19: // Module
+				case 20: // Package
+					skip(2);
+					break;
+				case 15: // MethodHandle
+					skip(3);
+					break;
+				case 3: // Integer
+				case 4: // Float
+				case 9: // Fieldref
+				case 10: // Methodref
+				case 11: // InterfaceMethodref
+				case 12: // NameAndType
+				case 17: // Dynamic
+				case 18: // InvokeDynamic
+					skip(4);
+					break;
+				case 5: // Long
+				case 6: // Double
+					skip(8);
+					i++;
+					break;
+				default:
+					throw new IOException("Unknown constant pool tag: " + tag);
+			}
+		}
+		return constants;
+	}
+
+	/**
+	 * Read the remainder of the class file and return the internal names of
+	 * the superclass, the interfaces, the runtime-visible annotation types of
+	 * the class and its methods, and the member classes of the class.
+	 *
+	 * <p>Must be called after {@link #readConstantPool()}.
+	 */
+	List<String> readTypeReferences() throws IOException {
+		List<String> typeNames = new ArrayList<>();
+		this.in.readUnsignedShort(); // access_flags
+		this.thisClassIndex = this.in.readUnsignedShort();
+		int superclassIndex = this.in.readUnsignedShort();
+		if (superclassIndex != 0) {
+			typeNames.add(className(superclassIndex));
+		}
+		int interfacesCount = this.in.readUnsignedShort();
+		for (int i = 0; i < interfacesCount; i++) {
+			typeNames.add(className(this.in.readUnsignedShort()));
+		}
+		readMembers(null);
+		readMembers(typeNames);
+		readAttributes(typeNames, true);
+		return typeNames;
+	}
+
+	private void readMembers(List<String> annotationTypeNames) throws IOException {
+		int count = this.in.readUnsignedShort();
+		for (int i = 0; i < count; i++) {
+			skip(6); // access_flags, name_index, descriptor_index
+			readAttributes(annotationTypeNames, false);
+		}
+	}
+
+	private void readAttributes(List<String> typeNames, boolean classAttributes) throws IOException {
+		int count = this.in.readUnsignedShort();
+		for (int i = 0; i < count; i++) {
+			String name = this.utf8Constants[this.in.readUnsignedShort()];
+			int length = this.in.readInt();
+			if (typeNames != null && RUNTIME_VISIBLE_ANNOTATIONS.equals(name)) {
+				int annotationsCount = this.in.readUnsignedShort();
+				for (int j = 0; j < annotationsCount; j++) {
+					typeNames.add(readAnnotation());
+				}
+			}
+			else if (classAttributes && INNER_CLASSES.equals(name)) {
+				readMemberClasses(typeNames);
+			}
+			else {
+				skip(length);
+			}
+		}
+	}
+
+	/**
+	 * Read the {@code InnerClasses} attribute and add the classes whose outer
+	 * class is this class, since their tests are discovered via this class.
+	 */
+	private void readMemberClasses(List<String> typeNames) throws IOException {
+		int classesCount = this.in.readUnsignedShort();
+		for (int i = 0; i < classesCount; i++) {
+			int innerClassIndex = this.in.readUnsignedShort();
+			int outerClassIndex = this.in.readUnsignedShort();
+			skip(4); // inner_name_index, inner_class_access_flags
+			if (outerClassIndex == this.thisClassIndex && innerClassIndex != this.thisClassIndex) {
+				typeNames.add(className(innerClassIndex));
+			}
+		}
+	}
+
+	private String readAnnotation() throws IOException {
+		String descriptor = this.utf8Constants[this.in.readUnsignedShort()];
+		int pairsCount = this.in.readUnsignedShort();
+		for (int i = 0; i < pairsCount; i++) {
+			this.in.readUnsignedShort(); // element_name_index
+			skipElementValue();
+		}
+		// descriptor is of the form "Lpackage/Name;"
+		return descriptor.substring(1, descriptor.length() - 1);
+	}
+
+	private void skipElementValue() throws IOException {
+		int tag = this.in.readUnsignedByte();
+		switch (tag) {
+			case 'e':
+				skip(4);
+				break;
+			case '@':
+				readAnnotation();
+				break;
+			case '[':
+				int valuesCount = this.in.readUnsignedShort();
+				for (int i = 0; i < valuesCount; i++) {
+					skipElementValue();
+				}
+				break;
+			default:
+				// constant value or class
+				skip(2);
+		}
+	}
+
+	private String className(int classIndex) {
+		return this.utf8Constants[this.classNameIndexes[classIndex]];
+	}
+
+	private void skip(int length) throws IOException {
+		int remaining = length;
+		while (remaining > 0) {
+			int skipped = this.in.skipBytes(remaining);
+			if (skipped <= 0) {
+				throw new IOException("Unexpected end of class file");
+			}
+			remaining -= skipped;
+		}
+	}
+
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.commons.util;
+
+import static java.util.Collections.disjoint;
+import static java.util.Collections.emptyList;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Applies a {@link ClassFileReferenceFilter} to class files that are located
+ * using a {@link ClassLoader}, without loading any classes.
+ *
+ * <p>Results are cached, so that common superclasses and annotation types are
+ * read at most once per checker. Class files located in a classpath root
+ * with a {@link ClassFileIndex} are only read if they have changed since the
+ * index was written. Instances are thread-safe.
+ *
+ * <h3>DISCLAIMER</h3>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 5.0
+ */
+class ClassFileReferenceChecker {
+
+	private static final String CLASS_FILE_SUFFIX = ".class";
+
+	private final ClassFileReferenceFilter filter;
+
+	private final ClassLoader classLoader;
+
+	private final List<ClassFileIndex> indexes;
+
+	private final Map<String, Boolean> results = new ConcurrentHashMap<>();
+
+	ClassFileReferenceChecker(ClassFileReferenceFilter filter, ClassLoader classLoader) {
+		this(filter, classLoader, emptyList());
+	}
+
+	ClassFileReferenceChecker(ClassFileReferenceFilter filter, ClassLoader classLoader, List<ClassFileIndex> indexes) {
+		this.filter = filter;
+		this.classLoader = classLoader;
+		this.indexes = indexes;
+	}
+
+	/**
+	 * Determine if the class file for the class with the supplied fully
+	 * qualified name passes the filter.
+	 */
+	boolean accept(String className) {
+		if (this.filter.acceptsAnyClassFile()) {
+			return true;
+		}
+		return accept(className.replace('.', '/'), new HashSet<>(), new HashSet<>());
+	}
+
+	/**
+	 * @param visiting the types on the current path of the walk
+	 * @param cycleEntries the types on which the walk was cut short because
+	 * they were already being visited
+	 */
+	private boolean accept(String internalName, Set<String> visiting, Set<String> cycleEntries) {
+		if (isPlatformType(internalName)) {
+			return false;
+		}
+		Boolean cached = this.results.get(internalName);
+		if (cached != null) {
+			return cached;
+		}
+		if (!visiting.add(internalName)) {
+			// cyclic reference, e.g. between annotation types
+			cycleEntries.add(internalName);
+			return false;
+		}
+		boolean accepted = summarizeAndAccept(internalName, visiting, cycleEntries);
+		visiting.remove(internalName);
+		// A negative result is only provisional if it depends on a cycle entry
+		// whose own result is still being determined further up the path.
+		if (accepted || disjoint(cycleEntries, visiting)) {
+			this.results.put(internalName, accepted);
+		}
+		return accepted;
+	}
+
+	private boolean summarizeAndAccept(String internalName, Set<String> visiting, Set<String> cycleEntries) {
+		Optional<ClassFileSummary> summary;
+		try {
+			summary = summarize(internalName);
+		}
+		catch (IOException | RuntimeException e) {
+			// unreadable class files are left to the class loader
+			return true;
+		}
+		if (!summary.isPresent() || summary.get().matchesFilter()) {
+			return true;
+		}
+		for (String typeName : summary.get().getTypeReferences()) {
+			if (accept(typeName, visiting, cycleEntries)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private Optional<ClassFileSummary> summarize(String internalName) throws IOException {
+		for (ClassFileIndex index : this.indexes) {
+			Optional<ClassFileSummary> summary = index.summarize(internalName, this::read);
+			if (summary.isPresent()) {
+				return summary;
+			}
+		}
+		try (InputStream in = this.classLoader.getResourceAsStream(internalName + CLASS_FILE_SUFFIX)) {
+			return (in != null ? Optional.of(read(in)) : Optional.empty());
+		}
+	}
+
+	private ClassFileSummary read(InputStream in) throws IOException {
+		ClassFileReader reader = new ClassFileReader(in);
+		for (String constant : reader.readConstantPool()) {
+			if (this.filter.matches(constant)) {
+				return new ClassFileSummary(true, emptyList());
+			}
+		}
+		return new ClassFileSummary(false, reader.readTypeReferences());
+	}
+
+	private static boolean isPlatformType(String internalName) {
+		return internalName.startsWith("java/") || internalName.startsWith("javax/");
+	}
+
+	/**
+	 * The result of applying the filter to a single class file in isolation.
+	 */
+	static final class ClassFileSummary {
+
+		private final boolean matchesFilter;
+
+		private final List<String> typeReferences;
+
+		ClassFileSummary(boolean matchesFilter, List<String> typeReferences) {
+			this.matchesFilter = matchesFilter;
+			this.typeReferences = typeReferences;
+		}
+
+		/**
+		 * Determine if the constant pool of the class file matches the filter.
+		 */
+		boolean matchesFilter() {
+			return this.matchesFilter;
+		}
+
+		/**
+		 * Get the superclass, interfaces, annotation types, and member classes
+		 * referenced by the class file; empty if the class file
+		 * {@linkplain #matchesFilter matches}.
+		 */
+		List<String> getTypeReferences() {
+			return this.typeReferences;
+		}
+
+	}
+
+	/**
+	 * Reads the summary of a class file from its contents.
+	 */
+	@FunctionalInterface
+	interface SummaryReader {
+
+		ClassFileSummary read(InputStream in) throws IOException;
+
+	}
+
+}
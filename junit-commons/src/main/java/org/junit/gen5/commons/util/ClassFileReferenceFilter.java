@@ -0,0 +1,107 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.commons.util;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Filter for class files that is applied by the classpath scanner before a
+ * class is loaded.
+ *
+ * <p>A class file passes the filter if any of the names and descriptors in
+ * its constant pool contains one of the supplied fragments of internal class
+ * names, e.g. {@code "org/junit/"}. A class also passes if its superclass,
+ * any of its interfaces, or any annotation type declared on the class or its
+ * methods passes the filter. This covers inherited test methods and custom
+ * composed annotations. Class files that cannot be read always pass.
+ *
+ * <p>Two filters are equal if they match the same fragments, which allows
+ * callers to share scan results between equal filters.
+ *
+ * <h3>DISCLAIMER</h3>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 5.0
+ */
+public final class ClassFileReferenceFilter {
+
+	private static final ClassFileReferenceFilter ANY_CLASS_FILE = new ClassFileReferenceFilter(emptyList());
+
+	/**
+	 * Get a filter that lets all class files pass without reading them.
+	 */
+	public static ClassFileReferenceFilter anyClassFile() {
+		return ANY_CLASS_FILE;
+	}
+
+	/**
+	 * Create a filter for class files that reference any of the supplied
+	 * fragments of internal class names, e.g. {@code "org/junit/"}.
+	 */
+	public static ClassFileReferenceFilter referencing(String... fragments) {
+		Preconditions.notEmpty(asList(fragments), "fragments must not be empty");
+		for (String fragment : fragments) {
+			Preconditions.notBlank(fragment, "fragment must not be blank");
+		}
+		return new ClassFileReferenceFilter(asList(fragments));
+	}
+
+	private final List<String> fragments;
+
+	private ClassFileReferenceFilter(List<String> fragments) {
+		this.fragments = unmodifiableList(new ArrayList<>(fragments));
+	}
+
+	boolean acceptsAnyClassFile() {
+		return this.fragments.isEmpty();
+	}
+
+	List<String> getFragments() {
+		return this.fragments;
+	}
+
+	boolean matches(String constant) {
+		for (String fragment : this.fragments) {
+			if (constant.contains(fragment)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj instanceof ClassFileReferenceFilter) {
+			ClassFileReferenceFilter that = (ClassFileReferenceFilter) obj;
+			return this.fragments.equals(that.fragments);
+		}
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return this.fragments.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return new ToStringBuilder(this).append("fragments", this.fragments).toString();
+	}
+
+}
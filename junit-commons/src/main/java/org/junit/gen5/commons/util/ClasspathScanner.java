@@ -10,19 +10,44 @@
 
 package org.junit.gen5.commons.util;
 
+import static java.util.stream.Collectors.toList;
+
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.RecursiveTask;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 /**
+ * Scanner for classes in classpath directories and JAR files.
+ *
+ * <p>Directories are walked in parallel and class files are selected by their
+ * file names before any class is loaded. An optional class name filter is
+ * applied to the fully qualified names derived from the paths of the class
+ * files so that rejected classes are neither read nor loaded. JAR files are
+ * scanned by reading only their {@linkplain ZipCentralDirectory central
+ * directory}. An optional {@link ClassFileReferenceFilter} is applied to the
+ * bytes of each class file so that only candidate classes are loaded; the
+ * results may be persisted in a {@link ClassFileIndex} per classpath root
+ * directory. Classes are then loaded in parallel using the {@linkplain
+ * java.util.concurrent.ForkJoinPool#commonPool() common pool}. The class filter
+ * is applied in the calling thread, in the order in which the class files were
+ * found.
+ *
  * <h3>DISCLAIMER</h3>
  *
  * <p>These utilities are intended solely for usage within the JUnit framework
@@ -35,6 +60,14 @@ class ClasspathScanner {
 
 	private static final String CLASS_FILE_SUFFIX = ".class";
 
+	private static final String JAR_FILE_SUFFIX = ".jar";
+
+	private static final String FILE_PROTOCOL = "file";
+
+	private static final String JAR_PROTOCOL = "jar";
+
+	private static final String JAR_URL_SEPARATOR = "!/";
+
 	private final Supplier<ClassLoader> classLoaderSupplier;
 
 	private final BiFunction<String, ClassLoader, Optional<Class<?>>> loadClass;
@@ -57,90 +90,226 @@ class ClasspathScanner {
 	}
 
 	List<Class<?>> scanForClassesInPackage(String basePackageName, Predicate<Class<?>> classFilter) {
+		return scanForClassesInPackage(basePackageName, ClassFileReferenceFilter.anyClassFile(), classFilter);
+	}
+
+	List<Class<?>> scanForClassesInPackage(String basePackageName, ClassFileReferenceFilter classFileFilter,
+			Predicate<Class<?>> classFilter) {
+		return scanForClassesInPackage(basePackageName, className -> true, classFileFilter, classFilter);
+	}
+
+	List<Class<?>> scanForClassesInPackage(String basePackageName, Predicate<String> classNameFilter,
+			ClassFileReferenceFilter classFileFilter, Predicate<Class<?>> classFilter) {
 		Preconditions.notBlank(basePackageName, "basePackageName must not be blank");
+		Preconditions.notNull(classNameFilter, "classNameFilter must not be null");
+		Preconditions.notNull(classFileFilter, "classFileFilter must not be null");
 
-		List<File> dirs = allSourceDirsForPackage(basePackageName);
-		return allClassesInSourceDirs(dirs, basePackageName, classFilter);
+		List<Path> roots = allClasspathRootsForPackage(basePackageName);
+		return allClassesInClasspathRoots(roots, basePackageName, classNameFilter, classFileFilter, classFilter);
 	}
 
-	private List<Class<?>> allClassesInSourceDirs(List<File> sourceDirs, String basePackageName,
+	private List<Class<?>> allClassesInClasspathRoots(List<Path> roots, String basePackageName,
+			Predicate<String> classNameFilter, ClassFileReferenceFilter classFileFilter,
 			Predicate<Class<?>> classFilter) {
-		List<Class<?>> classes = new ArrayList<>();
-		for (File aSourceDir : sourceDirs) {
-			classes.addAll(findClassesInSourceDirRecursively(aSourceDir, basePackageName, classFilter));
+		List<String> classNames = new ArrayList<>();
+		List<ClassFileIndex> indexes = new ArrayList<>();
+		for (Path root : roots) {
+			if (Files.isDirectory(root)) {
+				classNames.addAll(new ClassFileCollector(root, basePackageName).invoke());
+				ClassFileIndex.forClasspathRoot(classpathRootOf(root, basePackageName), classFileFilter).ifPresent(
+					indexes::add);
+			}
+			else {
+				classNames.addAll(findClassNamesInArchive(root, basePackageName));
+			}
 		}
+		List<Class<?>> classes = loadClasses(classNames, classNameFilter, classFileFilter, indexes, classFilter);
+		indexes.forEach(ClassFileIndex::saveIfModified);
 		return classes;
 	}
 
+	private static Path classpathRootOf(Path packageDirectory, String packageName) {
+		Path classpathRoot = packageDirectory.toAbsolutePath().normalize();
+		if (!packageName.isEmpty()) {
+			for (int i = packageName.split("\\.").length; i > 0; i--) {
+				classpathRoot = classpathRoot.getParent();
+			}
+		}
+		return classpathRoot;
+	}
+
 	List<Class<?>> scanForClassesInClasspathRoot(File root, Predicate<Class<?>> classFilter) {
+		return scanForClassesInClasspathRoot(root, ClassFileReferenceFilter.anyClassFile(), classFilter);
+	}
+
+	List<Class<?>> scanForClassesInClasspathRoot(File root, ClassFileReferenceFilter classFileFilter,
+			Predicate<Class<?>> classFilter) {
+		return scanForClassesInClasspathRoot(root, className -> true, classFileFilter, classFilter);
+	}
+
+	List<Class<?>> scanForClassesInClasspathRoot(File root, Predicate<String> classNameFilter,
+			ClassFileReferenceFilter classFileFilter, Predicate<Class<?>> classFilter) {
 		Preconditions.notNull(root, "root must not be null");
+		Preconditions.notNull(classNameFilter, "classNameFilter must not be null");
+		Preconditions.notNull(classFileFilter, "classFileFilter must not be null");
 		Preconditions.condition(root.exists(), "root must exist");
-		Preconditions.condition(root.isDirectory(), "root must be a directory");
+		Preconditions.condition(root.isDirectory() || isArchive(root.toPath()),
+			"root must be a directory or a JAR file");
 
-		return findClassesInSourceDirRecursively(root, "", classFilter);
+		return allClassesInClasspathRoots(Collections.singletonList(root.toPath()), "", classNameFilter,
+			classFileFilter, classFilter);
 	}
 
-	private List<File> allSourceDirsForPackage(String basePackageName) {
+	/**
+	 * Determine the directories and archives that contain the supplied package.
+	 *
+	 * <p>For a package located in an archive, the archive itself is returned.
+	 */
+	private List<Path> allClasspathRootsForPackage(String basePackageName) {
 		try {
 			ClassLoader classLoader = classLoaderSupplier.get();
 			String path = packagePath(basePackageName);
 			Enumeration<URL> resources = classLoader.getResources(path);
-			List<File> dirs = new ArrayList<>();
+			List<Path> roots = new ArrayList<>();
 			while (resources.hasMoreElements()) {
 				URL resource = resources.nextElement();
-				dirs.add(new File(resource.getFile()));
+				toClasspathRoot(resource).ifPresent(roots::add);
 			}
-			return dirs;
+			return roots;
 		}
 		catch (IOException e) {
 			return Collections.emptyList();
 		}
 	}
 
-	private String packagePath(String basePackageName) {
-		return basePackageName.replace('.', '/');
+	private Optional<Path> toClasspathRoot(URL resource) {
+		try {
+			if (JAR_PROTOCOL.equals(resource.getProtocol())) {
+				String path = resource.getPath();
+				int separator = path.indexOf(JAR_URL_SEPARATOR);
+				Path archive = Paths.get(new URI(path.substring(0, separator)));
+				return isArchive(archive) ? Optional.of(archive) : Optional.empty();
+			}
+			if (FILE_PROTOCOL.equals(resource.getProtocol())) {
+				return Optional.of(Paths.get(resource.toURI()));
+			}
+		}
+		catch (URISyntaxException | IllegalArgumentException | IndexOutOfBoundsException e) {
+			// fall through: not a local directory or archive
+		}
+		return Optional.empty();
 	}
 
-	private List<Class<?>> findClassesInSourceDirRecursively(File sourceDir, String packageName,
-			Predicate<Class<?>> classFilter) {
-		List<Class<?>> classesCollector = new ArrayList<>();
-		collectClassesRecursively(sourceDir, packageName, classesCollector, classFilter);
-		return classesCollector;
+	private String packagePath(String basePackageName) {
+		return basePackageName.replace('.', '/');
 	}
 
-	private void collectClassesRecursively(File sourceDir, String packageName, List<Class<?>> classesCollector,
-			Predicate<Class<?>> classFilter) {
-		File[] files = sourceDir.listFiles();
-		if (files == null) {
-			return;
+	private List<String> findClassNamesInArchive(Path archive, String basePackageName) {
+		String prefix = basePackageName.isEmpty() ? "" : packagePath(basePackageName) + '/';
+		try {
+			// @formatter:off
+			return ZipCentralDirectory.read(archive).entryNames()
+					.filter(entryName -> entryName.startsWith(prefix))
+					.filter(ClasspathScanner::isClassFileName)
+					.map(entryName -> entryName.substring(0, entryName.length() - CLASS_FILE_SUFFIX.length()))
+					.map(entryName -> entryName.replace('/', '.'))
+					.collect(toList());
+			// @formatter:on
 		}
-		for (File file : files) {
-			if (isClassFile(file)) {
-				Optional<Class<?>> classForClassFile = loadClassForClassFile(file, packageName);
-				classForClassFile.filter(classFilter).ifPresent(clazz -> classesCollector.add(clazz));
-			}
-			else if (file.isDirectory()) {
-				collectClassesRecursively(file, appendPackageName(packageName, file.getName()), classesCollector,
-					classFilter);
-			}
+		catch (IOException | UncheckedIOException e) {
+			// ignore unreadable archives
+			return Collections.emptyList();
 		}
 	}
 
-	private String appendPackageName(String packageName, String subpackageName) {
+	private List<Class<?>> loadClasses(List<String> classNames, Predicate<String> classNameFilter,
+			ClassFileReferenceFilter classFileFilter, List<ClassFileIndex> indexes, Predicate<Class<?>> classFilter) {
+		ClassLoader classLoader = classLoaderSupplier.get();
+		ClassFileReferenceChecker classFileChecker = new ClassFileReferenceChecker(classFileFilter, classLoader,
+			indexes);
+		// @formatter:off
+		List<Class<?>> classes = classNames.parallelStream()
+				.filter(classNameFilter)
+				.filter(classFileChecker::accept)
+				.map(className -> loadClass.apply(className, classLoader))
+				.filter(Optional::isPresent)
+				.map(Optional::get)
+				.collect(toList());
+		return classes.stream()
+				.filter(classFilter)
+				.collect(toList());
+		// @formatter:on
+	}
+
+	private static String appendPackageName(String packageName, String subpackageName) {
 		if (packageName.isEmpty())
 			return subpackageName;
 		else
 			return packageName + "." + subpackageName;
 	}
 
-	private Optional<Class<?>> loadClassForClassFile(File file, String packageName) {
-		String className = packageName + '.'
-				+ file.getName().substring(0, file.getName().length() - CLASS_FILE_SUFFIX.length());
-		return loadClass.apply(className, classLoaderSupplier.get());
+	private static boolean isClassFile(Path file) {
+		return isClassFileName(file.getFileName().toString()) && Files.isRegularFile(file);
+	}
+
+	private static boolean isClassFileName(String name) {
+		// package-info.class, module-info.class, and entries below META-INF (such as
+		// versioned classes in multi-release JARs) do not declare loadable classes.
+		return name.endsWith(CLASS_FILE_SUFFIX) && name.indexOf('-') < 0;
+	}
+
+	private static boolean isArchive(Path path) {
+		return path.getFileName().toString().endsWith(JAR_FILE_SUFFIX) && Files.isRegularFile(path);
 	}
 
-	private static boolean isClassFile(File file) {
-		return file.isFile() && file.getName().endsWith(CLASS_FILE_SUFFIX);
+	/**
+	 * Collects the fully qualified names of all classes below a directory,
+	 * forking a subtask for each subdirectory.
+	 */
+	private static class ClassFileCollector extends RecursiveTask<List<String>> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final Path directory;
+
+		private final String packageName;
+
+		ClassFileCollector(Path directory, String packageName) {
+			this.directory = directory;
+			this.packageName = packageName;
+		}
+
+		@Override
+		protected List<String> compute() {
+			List<String> classNames = new ArrayList<>();
+			List<ClassFileCollector> subtasks = new ArrayList<>();
+			try (DirectoryStream<Path> entries = Files.newDirectoryStream(this.directory)) {
+				for (Path entry : entries) {
+					if (isClassFile(entry)) {
+						classNames.add(appendPackageName(this.packageName, simpleClassName(entry)));
+					}
+					else if (Files.isDirectory(entry)) {
+						ClassFileCollector subtask = new ClassFileCollector(entry,
+							appendPackageName(this.packageName, entry.getFileName().toString()));
+						subtask.fork();
+						subtasks.add(subtask);
+					}
+				}
+			}
+			catch (IOException e) {
+				// ignore unreadable directories
+			}
+			for (ClassFileCollector subtask : subtasks) {
+				classNames.addAll(subtask.join());
+			}
+			return classNames;
+		}
+
+		private static String simpleClassName(Path classFile) {
+			String fileName = classFile.getFileName().toString();
+			return fileName.substring(0, fileName.length() - CLASS_FILE_SUFFIX.length());
+		}
+
 	}
 
 }
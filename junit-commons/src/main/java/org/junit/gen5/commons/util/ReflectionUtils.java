@@ -14,6 +14,9 @@ import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 
 import java.io.File;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
@@ -27,6 +30,8 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Predicate;
 
 /**
@@ -46,6 +51,19 @@ public final class ReflectionUtils {
 		HierarchyDown, HierarchyUp
 	}
 
+	/**
+	 * Cache of method handles created by {@link #invokeMethod}, keyed by the
+	 * declaring class so that it does not prevent classes from being unloaded.
+	 */
+	private static final ClassValue<ConcurrentMap<Method, MethodInvoker>> methodInvokers = //
+		new ClassValue<ConcurrentMap<Method, MethodInvoker>>() {
+
+			@Override
+			protected ConcurrentMap<Method, MethodInvoker> computeValue(Class<?> type) {
+				return new ConcurrentHashMap<>();
+			}
+		};
+
 	private ReflectionUtils() {
 		/* no-op */
 	}
@@ -112,7 +130,30 @@ public final class ReflectionUtils {
 
 		try {
 			Class<?>[] parameterTypes = Arrays.stream(args).map(Object::getClass).toArray(Class[]::new);
-			Constructor<T> constructor = clazz.getDeclaredConstructor(parameterTypes);
+			return newInstance(clazz.getDeclaredConstructor(parameterTypes), args);
+		}
+		catch (Throwable t) {
+			throw ExceptionUtils.throwAsUncheckedException(getUnderlyingCause(t));
+		}
+	}
+
+	/**
+	 * Create a new instance by invoking the supplied, previously resolved
+	 * {@link Constructor}.
+	 *
+	 * <p>The constructor will be made accessible if necessary, and any checked
+	 * exception will be {@linkplain ExceptionUtils#throwAsUncheckedException masked}
+	 * as an unchecked exception.
+	 *
+	 * @param constructor the constructor to invoke; never {@code null}
+	 * @param args the arguments to pass to the constructor
+	 * @return the new instance
+	 * @see #newInstance(Class, Object...)
+	 */
+	public static <T> T newInstance(Constructor<T> constructor, Object... args) {
+		Preconditions.notNull(constructor, "constructor must not be null");
+
+		try {
 			makeAccessible(constructor);
 			return constructor.newInstance(args);
 		}
@@ -126,6 +167,12 @@ public final class ReflectionUtils {
 	 * {@linkplain ExceptionUtils#throwAsUncheckedException masking} any
 	 * checked exception as an unchecked exception.
 	 *
+	 * <p>The method is invoked via a {@link MethodHandle} that is created
+	 * once per method and cached. If the target or the arguments do not match
+	 * the declared types exactly, the method is invoked via reflection
+	 * instead, which applies widening conversions or throws an
+	 * {@link IllegalArgumentException} just like {@link Method#invoke}.
+	 *
 	 * @param method the method to invoke; never {@code null}
 	 * @param target the object on which to invoke the method; may be
 	 * {@code null} if the method is {@code static}
@@ -140,14 +187,89 @@ public final class ReflectionUtils {
 			() -> String.format("Cannot invoke non-static method [%s] on a null target.", method.toGenericString()));
 
 		try {
-			makeAccessible(method);
-			return method.invoke(target, args);
+			MethodInvoker methodInvoker = methodInvokers.get(method.getDeclaringClass()).computeIfAbsent(method,
+				MethodInvoker::new);
+			if (!methodInvoker.accepts(target, args)) {
+				makeAccessible(method);
+				return method.invoke(target, args);
+			}
+			return methodInvoker.invoke(target, args);
 		}
 		catch (Throwable t) {
 			throw ExceptionUtils.throwAsUncheckedException(getUnderlyingCause(t));
 		}
 	}
 
+	/**
+	 * Invokes a method via a {@link MethodHandle} that takes the target
+	 * (ignored for {@code static} methods) followed by an {@code Object[]} of
+	 * arguments, or only the target if the method has no parameters, and
+	 * returns an {@code Object}.
+	 */
+	private static final class MethodInvoker {
+
+		private final Class<?> declaringClass;
+
+		private final boolean isStatic;
+
+		private final Class<?>[] parameterTypes;
+
+		private final Class<?>[] wrappedParameterTypes;
+
+		private final MethodHandle methodHandle;
+
+		MethodInvoker(Method method) {
+			this.declaringClass = method.getDeclaringClass();
+			this.isStatic = isStatic(method);
+			this.parameterTypes = method.getParameterTypes();
+			this.wrappedParameterTypes = MethodType.methodType(void.class, this.parameterTypes).wrap().parameterArray();
+			this.methodHandle = createMethodHandle(method);
+		}
+
+		private static MethodHandle createMethodHandle(Method method) {
+			makeAccessible(method);
+			try {
+				MethodHandle methodHandle = MethodHandles.lookup().unreflect(method).asFixedArity();
+				if (isStatic(method)) {
+					methodHandle = MethodHandles.dropArguments(methodHandle, 0, Object.class);
+				}
+				int parameterCount = method.getParameterCount();
+				methodHandle = methodHandle.asType(MethodType.genericMethodType(parameterCount + 1));
+				return parameterCount == 0 ? methodHandle : methodHandle.asSpreader(Object[].class, parameterCount);
+			}
+			catch (IllegalAccessException ex) {
+				throw ExceptionUtils.throwAsUncheckedException(ex);
+			}
+		}
+
+		/**
+		 * Determine if the supplied target and arguments can be passed to the
+		 * method handle without conversions other than boxing.
+		 */
+		boolean accepts(Object target, Object[] args) {
+			if (args.length != this.parameterTypes.length) {
+				return false;
+			}
+			if (!this.isStatic && !this.declaringClass.isInstance(target)) {
+				return false;
+			}
+			for (int i = 0; i < args.length; i++) {
+				if (args[i] == null ? this.parameterTypes[i].isPrimitive()
+						: !this.wrappedParameterTypes[i].isInstance(args[i])) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		Object invoke(Object target, Object[] args) throws Throwable {
+			if (args.length == 0) {
+				return (Object) this.methodHandle.invokeExact(target);
+			}
+			return (Object) this.methodHandle.invokeExact(target, args);
+		}
+	}
+
 	public static Optional<Class<?>> loadClass(String name) {
 		return loadClass(name, getDefaultClassLoader());
 	}
@@ -235,13 +357,75 @@ public final class ReflectionUtils {
 	}
 
 	public static List<Class<?>> findAllClassesInClasspathRoot(File root, Predicate<Class<?>> classTester) {
+		return findAllClassesInClasspathRoot(root, ClassFileReferenceFilter.anyClassFile(), classTester);
+	}
+
+	/**
+	 * Find all classes in the supplied classpath {@code root} whose class files
+	 * pass the supplied {@code classFileFilter} and that match the supplied
+	 * {@code classTester}.
+	 *
+	 * <p>Class files that do not pass the {@code classFileFilter} are never
+	 * loaded. The results of applying the filter to class files in directories
+	 * are persisted between runs if the {@code junit.discovery.index.dir}
+	 * system property is set.
+	 */
+	public static List<Class<?>> findAllClassesInClasspathRoot(File root, ClassFileReferenceFilter classFileFilter,
+			Predicate<Class<?>> classTester) {
+		return findAllClassesInClasspathRoot(root, className -> true, classFileFilter, classTester);
+	}
+
+	/**
+	 * Find all classes in the supplied classpath {@code root} whose fully
+	 * qualified names match the supplied {@code classNameFilter}, whose class
+	 * files pass the supplied {@code classFileFilter}, and that match the
+	 * supplied {@code classTester}.
+	 *
+	 * <p>The {@code classNameFilter} is applied to the names derived from the
+	 * paths of the class files; class files whose names do not match are
+	 * neither read nor loaded.
+	 */
+	public static List<Class<?>> findAllClassesInClasspathRoot(File root, Predicate<String> classNameFilter,
+			ClassFileReferenceFilter classFileFilter, Predicate<Class<?>> classTester) {
 		return new ClasspathScanner(ReflectionUtils::getDefaultClassLoader,
-			ReflectionUtils::loadClass).scanForClassesInClasspathRoot(root, classTester);
+			ReflectionUtils::loadClass).scanForClassesInClasspathRoot(root, classNameFilter, classFileFilter,
+				classTester);
 	}
 
 	public static List<Class<?>> findAllClassesInPackage(String basePackageName, Predicate<Class<?>> classTester) {
+		return findAllClassesInPackage(basePackageName, ClassFileReferenceFilter.anyClassFile(), classTester);
+	}
+
+	/**
+	 * Find all classes in the supplied package and its subpackages whose class
+	 * files pass the supplied {@code classFileFilter} and that match the
+	 * supplied {@code classTester}.
+	 *
+	 * <p>Class files that do not pass the {@code classFileFilter} are never
+	 * loaded. The results of applying the filter to class files in directories
+	 * are persisted between runs if the {@code junit.discovery.index.dir}
+	 * system property is set.
+	 */
+	public static List<Class<?>> findAllClassesInPackage(String basePackageName,
+			ClassFileReferenceFilter classFileFilter, Predicate<Class<?>> classTester) {
+		return findAllClassesInPackage(basePackageName, className -> true, classFileFilter, classTester);
+	}
+
+	/**
+	 * Find all classes in the supplied package and its subpackages whose fully
+	 * qualified names match the supplied {@code classNameFilter}, whose class
+	 * files pass the supplied {@code classFileFilter}, and that match the
+	 * supplied {@code classTester}.
+	 *
+	 * <p>The {@code classNameFilter} is applied to the names derived from the
+	 * paths of the class files; class files whose names do not match are
+	 * neither read nor loaded.
+	 */
+	public static List<Class<?>> findAllClassesInPackage(String basePackageName, Predicate<String> classNameFilter,
+			ClassFileReferenceFilter classFileFilter, Predicate<Class<?>> classTester) {
 		return new ClasspathScanner(ReflectionUtils::getDefaultClassLoader,
-			ReflectionUtils::loadClass).scanForClassesInPackage(basePackageName, classTester);
+			ReflectionUtils::loadClass).scanForClassesInPackage(basePackageName, classNameFilter, classFileFilter,
+				classTester);
 	}
 
 	public static List<Class<?>> findNestedClasses(Class<?> clazz, Predicate<Class<?>> predicate) {
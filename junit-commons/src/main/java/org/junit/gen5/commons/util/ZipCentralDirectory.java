@@ -0,0 +1,205 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.commons.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Read-only view of the central directory of a ZIP archive.
+ *
+ * <p>Only the end of the archive and its central directory are read. The
+ * central directory is memory-mapped and entry names are decoded lazily, so
+ * entries are neither inflated nor read into memory up front. ZIP64 archives
+ * are supported.
+ *
+ * <h3>DISCLAIMER</h3>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 5.0
+ */
+class ZipCentralDirectory {
+
+	private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+
+	private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+
+	private static final int MAX_ARCHIVE_COMMENT_LENGTH = 0xFFFF;
+
+	private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE = 0x07064b50;
+
+	private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIZE = 20;
+
+	private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06064b50;
+
+	private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_SIZE = 56;
+
+	private static final int CENTRAL_DIRECTORY_ENTRY_SIGNATURE = 0x02014b50;
+
+	private static final int CENTRAL_DIRECTORY_ENTRY_SIZE = 46;
+
+	private static final long ZIP64_MAGIC_VALUE = 0xFFFFFFFFL;
+
+	/**
+	 * Read the central directory of the supplied archive.
+	 *
+	 * @throws IOException if the archive cannot be read or is not a ZIP archive
+	 */
+	static ZipCentralDirectory read(Path archive) throws IOException {
+		try (FileChannel channel = FileChannel.open(archive, StandardOpenOption.READ)) {
+			long archiveSize = channel.size();
+			int tailLength = (int) Math.min(archiveSize, END_OF_CENTRAL_DIRECTORY_SIZE + MAX_ARCHIVE_COMMENT_LENGTH);
+			long tailPosition = archiveSize - tailLength;
+			ByteBuffer tail = read(channel, tailPosition, tailLength);
+
+			int end = findEndOfCentralDirectory(tail);
+			if (end < 0) {
+				throw new IOException("Not a ZIP archive: " + archive);
+			}
+			long size = Integer.toUnsignedLong(tail.getInt(end + 12));
+			long offset = Integer.toUnsignedLong(tail.getInt(end + 16));
+			// Data prepended to the archive shifts all recorded offsets.
+			long position = tailPosition + end - size;
+
+			if (size == ZIP64_MAGIC_VALUE || offset == ZIP64_MAGIC_VALUE) {
+				int locator = end - ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIZE;
+				if (locator < 0 || tail.getInt(locator) != ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE) {
+					throw new IOException("Missing ZIP64 end of central directory locator: " + archive);
+				}
+				// The ZIP64 end of central directory record usually directly precedes
+				// its locator. Otherwise, it is found at its recorded offset.
+				long zip64EndPosition = tailPosition + locator - ZIP64_END_OF_CENTRAL_DIRECTORY_SIZE;
+				ByteBuffer zip64End = zip64EndPosition < 0 ? null
+						: read(channel, zip64EndPosition, ZIP64_END_OF_CENTRAL_DIRECTORY_SIZE);
+				if (zip64End == null || zip64End.getInt(0) != ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+					zip64EndPosition = tail.getLong(locator + 8);
+					if (zip64EndPosition < 0 || zip64EndPosition + ZIP64_END_OF_CENTRAL_DIRECTORY_SIZE > archiveSize) {
+						throw new IOException("Corrupt ZIP64 end of central directory: " + archive);
+					}
+					zip64End = read(channel, zip64EndPosition, ZIP64_END_OF_CENTRAL_DIRECTORY_SIZE);
+				}
+				if (zip64End.getInt(0) != ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+					throw new IOException("Corrupt ZIP64 end of central directory: " + archive);
+				}
+				size = zip64End.getLong(40);
+				position = zip64EndPosition - size;
+			}
+
+			if (size > Integer.MAX_VALUE || position < 0 || position + size > archiveSize) {
+				throw new IOException("Corrupt central directory: " + archive);
+			}
+			ByteBuffer centralDirectory = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+			return new ZipCentralDirectory(centralDirectory.order(ByteOrder.LITTLE_ENDIAN));
+		}
+	}
+
+	private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, position + buffer.position()) < 0) {
+				throw new IOException("Unexpected end of ZIP archive");
+			}
+		}
+		return buffer;
+	}
+
+	private static int findEndOfCentralDirectory(ByteBuffer tail) {
+		for (int i = tail.limit() - END_OF_CENTRAL_DIRECTORY_SIZE; i >= 0; i--) {
+			if (tail.getInt(i) == END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private final ByteBuffer centralDirectory;
+
+	private ZipCentralDirectory(ByteBuffer centralDirectory) {
+		this.centralDirectory = centralDirectory;
+	}
+
+	/**
+	 * Get a sequential stream of the names of all entries in the archive,
+	 * in the order in which they are stored.
+	 *
+	 * <p>Consuming the stream throws an {@link UncheckedIOException} if an
+	 * entry exceeds the bounds of the central directory.
+	 */
+	Stream<String> entryNames() {
+		Iterator<String> iterator = new EntryNameIterator(
+			this.centralDirectory.duplicate().order(ByteOrder.LITTLE_ENDIAN));
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+	}
+
+	private static class EntryNameIterator implements Iterator<String> {
+
+		private final ByteBuffer buffer;
+
+		private int position;
+
+		EntryNameIterator(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return this.position + Integer.BYTES <= this.buffer.limit()
+					&& this.buffer.getInt(this.position) == CENTRAL_DIRECTORY_ENTRY_SIGNATURE;
+		}
+
+		@Override
+		public String next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			if (this.position + CENTRAL_DIRECTORY_ENTRY_SIZE > this.buffer.limit()) {
+				throw corruptCentralDirectory();
+			}
+			int nameLength = Short.toUnsignedInt(this.buffer.getShort(this.position + 28));
+			int extraFieldLength = Short.toUnsignedInt(this.buffer.getShort(this.position + 30));
+			int commentLength = Short.toUnsignedInt(this.buffer.getShort(this.position + 32));
+			int nextPosition = this.position + CENTRAL_DIRECTORY_ENTRY_SIZE + nameLength + extraFieldLength
+					+ commentLength;
+			if (nextPosition > this.buffer.limit()) {
+				throw corruptCentralDirectory();
+			}
+
+			byte[] name = new byte[nameLength];
+			this.buffer.position(this.position + CENTRAL_DIRECTORY_ENTRY_SIZE);
+			this.buffer.get(name);
+
+			this.position = nextPosition;
+			return new String(name, UTF_8);
+		}
+
+		private static UncheckedIOException corruptCentralDirectory() {
+			return new UncheckedIOException(new IOException("Corrupt central directory"));
+		}
+
+	}
+
+}
@@ -28,6 +28,7 @@ class AvailableOptions {
 	private final OptionSpec<String> classnameFilter;
 	private final OptionSpec<String> tagFilter;
 	private final OptionSpec<String> excludeTags;
+	private final OptionSpec<String> tagExpression;
 	private final OptionSpec<String> additionalClasspathEntries;
 	private final OptionSpec<String> arguments;
 
@@ -51,6 +52,9 @@ class AvailableOptions {
 		excludeTags = parser.acceptsAll(asList("T", "exclude-tags"),
 			"Give a tag to include in the test run. This option can be repeated.") //
 			.withRequiredArg();
+		tagExpression = parser.acceptsAll(asList("e", "tag-expression"),
+			"Give a tag expression such as 'fast and not (slow or integration)' to include only matching tests.") //
+			.withRequiredArg();
 		additionalClasspathEntries = parser.acceptsAll(asList("p", "classpath"), //
 			"Additional classpath entries, e.g. for adding engines and their dependencies") //
 			.withRequiredArg();
@@ -73,6 +77,7 @@ class AvailableOptions {
 		result.setClassnameFilter(detectedOptions.valueOf(classnameFilter));
 		result.setTagsFilter(detectedOptions.valuesOf(tagFilter));
 		result.setExcludeTags(detectedOptions.valuesOf(excludeTags));
+		result.setTagExpression(detectedOptions.valueOf(tagExpression));
 		result.setAdditionalClasspathEntries(detectedOptions.valuesOf(additionalClasspathEntries));
 		result.setArguments(detectedOptions.valuesOf(arguments));
 		return result;
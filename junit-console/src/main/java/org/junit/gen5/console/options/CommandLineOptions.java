@@ -27,6 +27,7 @@ public class CommandLineOptions {
 	private List<String> additionalClasspathEntries = emptyList();
 	private List<String> arguments = emptyList();
 	private List<String> excludeTags = emptyList();
+	private String tagExpression;
 
 	public boolean isDisplayHelp() {
 		return displayHelp;
@@ -92,6 +93,14 @@ public class CommandLineOptions {
 		this.excludeTags = excludeTags;
 	}
 
+	public Optional<String> getTagExpression() {
+		return Optional.ofNullable(tagExpression);
+	}
+
+	public void setTagExpression(String tagExpression) {
+		this.tagExpression = tagExpression;
+	}
+
 	public List<String> getAdditionalClasspathEntries() {
 		return additionalClasspathEntries;
 	}
@@ -62,5 +62,6 @@ class TestPlanSpecificationCreator {
 		if (!options.getExcludeTags().isEmpty()) {
 			specification.filterWith(excludeTags(options.getExcludeTags()));
 		}
+		options.getTagExpression().ifPresent(expression -> specification.filterWith(byTagExpression(expression)));
 	}
 }
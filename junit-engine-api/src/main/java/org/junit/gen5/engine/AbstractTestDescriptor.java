@@ -12,20 +12,35 @@ package org.junit.gen5.engine;
 
 import static java.util.Collections.emptySet;
 
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.junit.gen5.commons.JUnitException;
 import org.junit.gen5.commons.util.Preconditions;
 
 /**
+ * Base class for mutable {@link TestDescriptor} implementations.
+ *
+ * <p>The number of static tests in each subtree is cached and invalidated
+ * for all ancestors whenever a child is added or removed. Hence,
+ * {@link #countStaticTests()} and {@link #hasTests()} do not walk unchanged
+ * subtrees more than once. This requires that {@link #isTest()} does not
+ * change once a descriptor has been added to a hierarchy.
+ *
+ * <p>Within the hierarchy of an {@link EngineDescriptor}, descriptors are
+ * {@linkplain #findByUniqueId found by unique ID} using the index maintained
+ * by the engine descriptor instead of walking the tree.
+ *
  * @since 5.0
  */
 public abstract class AbstractTestDescriptor implements TestDescriptor {
 
+	private static final long UNKNOWN = -1;
+
 	private final String uniqueId;
 
 	private TestDescriptor parent;
@@ -34,6 +49,8 @@ public abstract class AbstractTestDescriptor implements TestDescriptor {
 
 	private final Set<TestDescriptor> children = new LinkedHashSet<>();
 
+	private long staticTestCount = UNKNOWN;
+
 	protected AbstractTestDescriptor(String uniqueId) {
 		this.uniqueId = Preconditions.notBlank(uniqueId, "uniqueId must not be null or empty");
 	}
@@ -55,7 +72,10 @@ public abstract class AbstractTestDescriptor implements TestDescriptor {
 
 	@Override
 	public void removeChild(TestDescriptor child) {
-		this.children.remove(child);
+		if (this.children.contains(child)) {
+			hierarchyChanged(engineDescriptor -> engineDescriptor.unregisterDescendants(child));
+			this.children.remove(child);
+		}
 		child.setParent(null);
 	}
 
@@ -72,6 +92,10 @@ public abstract class AbstractTestDescriptor implements TestDescriptor {
 		if (getUniqueId().equals(uniqueId)) {
 			return Optional.of(this);
 		}
+		Optional<EngineDescriptor> engineDescriptor = findEngineDescriptor();
+		if (engineDescriptor.isPresent()) {
+			return engineDescriptor.get().findByUniqueId(uniqueId).filter(this::isAncestorOf);
+		}
 		for (TestDescriptor child : this.children) {
 			Optional<? extends TestDescriptor> result = child.findByUniqueId(uniqueId);
 			if (result.isPresent()) {
@@ -85,7 +109,80 @@ public abstract class AbstractTestDescriptor implements TestDescriptor {
 	public void addChild(TestDescriptor child) {
 		Preconditions.notNull(child, "child must not be null");
 		child.setParent(this);
-		this.children.add(child);
+		if (this.children.add(child)) {
+			hierarchyChanged(engineDescriptor -> engineDescriptor.registerDescendants(child));
+		}
+	}
+
+	@Override
+	public Set<? extends TestDescriptor> allDescendants() {
+		Set<TestDescriptor> descendants = new LinkedHashSet<>();
+		collectDescendants(this, descendants);
+		return descendants;
+	}
+
+	private static void collectDescendants(TestDescriptor descriptor, Set<TestDescriptor> descendants) {
+		descendants.addAll(descriptor.getChildren());
+		for (TestDescriptor child : descriptor.getChildren()) {
+			collectDescendants(child, descendants);
+		}
+	}
+
+	@Override
+	public long countStaticTests() {
+		if (this.staticTestCount == UNKNOWN) {
+			long count = isTest() ? 1 : 0;
+			for (TestDescriptor child : this.children) {
+				count += child.countStaticTests();
+			}
+			this.staticTestCount = count;
+		}
+		return this.staticTestCount;
+	}
+
+	@Override
+	public boolean hasTests() {
+		return countStaticTests() > 0;
+	}
+
+	/**
+	 * Invalidate the cached test counts of this descriptor and all of its
+	 * ancestors and update the index of the enclosing engine descriptor, if
+	 * any, using the supplied action.
+	 */
+	private void hierarchyChanged(Consumer<EngineDescriptor> indexUpdate) {
+		TestDescriptor current = this;
+		while (current != null) {
+			if (current instanceof AbstractTestDescriptor) {
+				((AbstractTestDescriptor) current).staticTestCount = UNKNOWN;
+			}
+			if (current instanceof EngineDescriptor) {
+				indexUpdate.accept((EngineDescriptor) current);
+			}
+			current = current.getParent().orElse(null);
+		}
+	}
+
+	private Optional<EngineDescriptor> findEngineDescriptor() {
+		TestDescriptor current = this;
+		while (current != null) {
+			if (current instanceof EngineDescriptor) {
+				return Optional.of((EngineDescriptor) current);
+			}
+			current = current.getParent().orElse(null);
+		}
+		return Optional.empty();
+	}
+
+	private boolean isAncestorOf(TestDescriptor descriptor) {
+		Optional<TestDescriptor> ancestor = descriptor.getParent();
+		while (ancestor.isPresent()) {
+			if (ancestor.get() == this) {
+				return true;
+			}
+			ancestor = ancestor.get().getParent();
+		}
+		return false;
 	}
 
 	@Override
@@ -101,7 +198,7 @@ public abstract class AbstractTestDescriptor implements TestDescriptor {
 	public void accept(Visitor visitor) {
 		Runnable remove = this::removeFromHierarchy;
 		visitor.visit(this, remove);
-		new HashSet<>(getChildren()).forEach(child -> child.accept(visitor));
+		new ArrayList<>(getChildren()).forEach(child -> child.accept(visitor));
 	}
 
 	@Override
@@ -12,5 +12,22 @@ package org.junit.gen5.engine;
 
 public interface ClassFilter extends EngineFilter {
 
+	/**
+	 * Determine if the class with the supplied fully qualified name may be
+	 * accepted, before the class is loaded.
+	 *
+	 * <p>Classpath scans evaluate this stage on the names derived from the
+	 * paths of class files and skip rejected classes without loading them.
+	 * Classes that pass are still subject to {@link #acceptClass}. Since
+	 * scans run in parallel, implementations must be thread-safe.
+	 *
+	 * <p>The default implementation accepts all class names.
+	 *
+	 * @since 5.0
+	 */
+	default boolean acceptClassName(String className) {
+		return true;
+	}
+
 	boolean acceptClass(Class<?> testClass);
 }
@@ -17,6 +17,8 @@ import java.util.List;
 
 public class ClassFilters {
 
+	private static final ClassFilter ANY_CLASS = new PredicateBasedClassFilter(c -> true, () -> "Any class");
+
 	private ClassFilters() {
 	}
 
@@ -36,12 +38,13 @@ public class ClassFilters {
 			return filters.get(0);
 		}
 		return new PredicateBasedClassFilter(
+			className -> filters.stream().allMatch(filter -> filter.acceptClassName(className)),
 			testClass -> filters.stream().allMatch(filter -> filter.acceptClass(testClass)),
 			() -> filters.stream().map(ClassFilter::getDescription).collect(joining(") and (", "(", ")")));
 	}
 
 	public static ClassFilter anyClass() {
-		return new PredicateBasedClassFilter(c -> true, () -> "Any class");
+		return ANY_CLASS;
 	}
 
 }
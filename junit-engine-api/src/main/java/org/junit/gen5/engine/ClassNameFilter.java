@@ -20,9 +20,14 @@ class ClassNameFilter implements ClassFilter {
 		this.pattern = Pattern.compile(regex);
 	}
 
+	@Override
+	public boolean acceptClassName(String className) {
+		return pattern.matcher(className).matches();
+	}
+
 	@Override
 	public boolean acceptClass(Class<?> testClass) {
-		return pattern.matcher(testClass.getName()).matches();
+		return acceptClassName(testClass.getName());
 	}
 
 	@Override
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.engine;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.stream.Collectors.toList;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import org.junit.gen5.commons.util.ClassFileReferenceFilter;
+import org.junit.gen5.commons.util.Preconditions;
+import org.junit.gen5.commons.util.ReflectionUtils;
+
+/**
+ * Cache for the classes found by scanning classpath roots and packages during
+ * test discovery.
+ *
+ * <p>Each classpath root and package is scanned at most once per
+ * {@link ClassFileReferenceFilter} and {@link ClassFilter}, no matter how many
+ * {@linkplain TestEngine engines} discover tests for the same
+ * {@link TestPlanSpecification}. Engines that use equal class file filters
+ * and the same class filter share a scan and apply their own class testers to
+ * the cached candidate classes instead of rescanning the file system.
+ *
+ * <p>The {@linkplain ClassFilter#acceptClassName name-based stage} of the
+ * class filter is applied while scanning, so classes whose names it rejects
+ * are never loaded.
+ *
+ * <p>This class is thread-safe so that engines may discover their tests
+ * concurrently.
+ *
+ * @since 5.0
+ * @see TestPlanSpecification#getClasspathScanCache()
+ */
+public final class ClasspathScanCache {
+
+	private final Map<ScanKey, List<Class<?>>> classesInClasspathRoots = new ConcurrentHashMap<>();
+
+	private final Map<ScanKey, List<Class<?>>> classesInPackages = new ConcurrentHashMap<>();
+
+	/**
+	 * Find all classes in the supplied classpath {@code root} that match the
+	 * supplied {@code classTester}.
+	 *
+	 * @see ReflectionUtils#findAllClassesInClasspathRoot(File, Predicate)
+	 */
+	public List<Class<?>> findAllClassesInClasspathRoot(File root, Predicate<Class<?>> classTester) {
+		return findAllClassesInClasspathRoot(root, ClassFileReferenceFilter.anyClassFile(), classTester);
+	}
+
+	/**
+	 * Find all classes in the supplied classpath {@code root} whose class files
+	 * pass the supplied {@code classFileFilter} and that match the supplied
+	 * {@code classTester}.
+	 *
+	 * @see ReflectionUtils#findAllClassesInClasspathRoot(File, ClassFileReferenceFilter, Predicate)
+	 */
+	public List<Class<?>> findAllClassesInClasspathRoot(File root, ClassFileReferenceFilter classFileFilter,
+			Predicate<Class<?>> classTester) {
+		return findAllClassesInClasspathRoot(root, ClassFilters.anyClass(), classFileFilter, classTester);
+	}
+
+	/**
+	 * Find all classes in the supplied classpath {@code root} whose names are
+	 * accepted by the supplied {@code classFilter}, whose class files pass the
+	 * supplied {@code classFileFilter}, and that match the supplied
+	 * {@code classTester}.
+	 *
+	 * <p>Only {@link ClassFilter#acceptClassName} is applied; callers remain
+	 * responsible for applying {@link ClassFilter#acceptClass}.
+	 *
+	 * @see ReflectionUtils#findAllClassesInClasspathRoot(File, Predicate, ClassFileReferenceFilter, Predicate)
+	 */
+	public List<Class<?>> findAllClassesInClasspathRoot(File root, ClassFilter classFilter,
+			ClassFileReferenceFilter classFileFilter, Predicate<Class<?>> classTester) {
+		Preconditions.notNull(classFilter, "classFilter must not be null");
+		Preconditions.notNull(classFileFilter, "classFileFilter must not be null");
+		Preconditions.notNull(classTester, "classTester must not be null");
+		List<Class<?>> candidates = this.classesInClasspathRoots.computeIfAbsent(
+			new ScanKey(root, classFilter, classFileFilter), key -> unmodifiableList(
+				ReflectionUtils.findAllClassesInClasspathRoot(root, classFilter::acceptClassName, classFileFilter,
+					clazz -> true)));
+		return filter(candidates, classTester);
+	}
+
+	/**
+	 * Find all classes in the supplied package and its subpackages that match
+	 * the supplied {@code classTester}.
+	 *
+	 * @see ReflectionUtils#findAllClassesInPackage(String, Predicate)
+	 */
+	public List<Class<?>> findAllClassesInPackage(String basePackageName, Predicate<Class<?>> classTester) {
+		return findAllClassesInPackage(basePackageName, ClassFileReferenceFilter.anyClassFile(), classTester);
+	}
+
+	/**
+	 * Find all classes in the supplied package and its subpackages whose class
+	 * files pass the supplied {@code classFileFilter} and that match the
+	 * supplied {@code classTester}.
+	 *
+	 * @see ReflectionUtils#findAllClassesInPackage(String, ClassFileReferenceFilter, Predicate)
+	 */
+	public List<Class<?>> findAllClassesInPackage(String basePackageName, ClassFileReferenceFilter classFileFilter,
+			Predicate<Class<?>> classTester) {
+		return findAllClassesInPackage(basePackageName, ClassFilters.anyClass(), classFileFilter, classTester);
+	}
+
+	/**
+	 * Find all classes in the supplied package and its subpackages whose names
+	 * are accepted by the supplied {@code classFilter}, whose class files pass
+	 * the supplied {@code classFileFilter}, and that match the supplied
+	 * {@code classTester}.
+	 *
+	 * <p>Only {@link ClassFilter#acceptClassName} is applied; callers remain
+	 * responsible for applying {@link ClassFilter#acceptClass}.
+	 *
+	 * @see ReflectionUtils#findAllClassesInPackage(String, Predicate, ClassFileReferenceFilter, Predicate)
+	 */
+	public List<Class<?>> findAllClassesInPackage(String basePackageName, ClassFilter classFilter,
+			ClassFileReferenceFilter classFileFilter, Predicate<Class<?>> classTester) {
+		Preconditions.notBlank(basePackageName, "basePackageName must not be blank");
+		Preconditions.notNull(classFilter, "classFilter must not be null");
+		Preconditions.notNull(classFileFilter, "classFileFilter must not be null");
+		Preconditions.notNull(classTester, "classTester must not be null");
+		List<Class<?>> candidates = this.classesInPackages.computeIfAbsent(
+			new ScanKey(basePackageName, classFilter, classFileFilter), key -> unmodifiableList(
+				ReflectionUtils.findAllClassesInPackage(basePackageName, classFilter::acceptClassName,
+					classFileFilter, clazz -> true)));
+		return filter(candidates, classTester);
+	}
+
+	private static List<Class<?>> filter(List<Class<?>> candidates, Predicate<Class<?>> classTester) {
+		return candidates.stream().filter(classTester).collect(toList());
+	}
+
+	/**
+	 * Identifies a scan by its classpath root or package, the identity of the
+	 * class filter, and the class file filter.
+	 */
+	private static final class ScanKey {
+
+		private final Object location;
+
+		private final ClassFilter classFilter;
+
+		private final ClassFileReferenceFilter classFileFilter;
+
+		ScanKey(Object location, ClassFilter classFilter, ClassFileReferenceFilter classFileFilter) {
+			this.location = location;
+			this.classFilter = classFilter;
+			this.classFileFilter = classFileFilter;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof ScanKey)) {
+				return false;
+			}
+			ScanKey that = (ScanKey) obj;
+			return Objects.equals(this.location, that.location) && this.classFilter == that.classFilter
+					&& this.classFileFilter.equals(that.classFileFilter);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(this.location, System.identityHashCode(this.classFilter), this.classFileFilter);
+		}
+	}
+
+}
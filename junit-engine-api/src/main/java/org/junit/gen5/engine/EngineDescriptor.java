@@ -10,13 +10,25 @@
 
 package org.junit.gen5.engine;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
 /**
+ * Root of the test tree of a {@link TestEngine}.
+ *
+ * <p>Maintains an index of all descendants by unique ID, which is updated
+ * whenever a descriptor is added to or removed from the tree. Hence,
+ * {@link #findByUniqueId} does not need to walk the tree.
+ *
  * @since 5.0
  */
 public class EngineDescriptor extends AbstractTestDescriptor implements EngineAwareTestDescriptor {
 
 	private final TestEngine engine;
 
+	private final Map<String, TestDescriptor> descendantsByUniqueId = new HashMap<>();
+
 	public EngineDescriptor(TestEngine engine) {
 		super(engine.getId());
 		this.engine = engine;
@@ -47,4 +59,28 @@ public class EngineDescriptor extends AbstractTestDescriptor implements EngineAw
 		return engine;
 	}
 
+	@Override
+	public Optional<? extends TestDescriptor> findByUniqueId(String uniqueId) {
+		if (getUniqueId().equals(uniqueId)) {
+			return Optional.of(this);
+		}
+		return Optional.ofNullable(this.descendantsByUniqueId.get(uniqueId));
+	}
+
+	/**
+	 * Add the supplied descriptor and all of its descendants to the index.
+	 */
+	void registerDescendants(TestDescriptor descriptor) {
+		this.descendantsByUniqueId.put(descriptor.getUniqueId(), descriptor);
+		descriptor.getChildren().forEach(this::registerDescendants);
+	}
+
+	/**
+	 * Remove the supplied descriptor and all of its descendants from the index.
+	 */
+	void unregisterDescendants(TestDescriptor descriptor) {
+		this.descendantsByUniqueId.remove(descriptor.getUniqueId(), descriptor);
+		descriptor.getChildren().forEach(this::unregisterDescendants);
+	}
+
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.engine;
+
+import org.junit.gen5.commons.util.Preconditions;
+
+/**
+ * {@link EngineFilter} that includes only the {@linkplain TestEngine test
+ * engine} with a given ID.
+ *
+ * <p>In contrast to other engine filters, this filter is evaluated by the
+ * launcher before discovery: excluded engines are never asked to discover
+ * any tests.
+ *
+ * @since 5.0
+ * @see TestPlanSpecification#acceptEngine(TestEngine)
+ */
+public final class EngineIdFilter implements EngineFilter {
+
+	/**
+	 * Create a filter that includes only the engine with the supplied ID.
+	 */
+	public static EngineIdFilter byEngineId(String engineId) {
+		return new EngineIdFilter(engineId);
+	}
+
+	private final String engineId;
+
+	private EngineIdFilter(String engineId) {
+		this.engineId = Preconditions.notBlank(engineId, "engine ID must not be null or empty");
+	}
+
+	public boolean acceptEngine(TestEngine testEngine) {
+		return this.engineId.equals(testEngine.getId());
+	}
+
+	@Override
+	public String getDescription() {
+		return "Include engine with ID: " + this.engineId;
+	}
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.engine;
+
+import java.util.Objects;
+
+import org.junit.gen5.commons.util.Preconditions;
+import org.junit.gen5.commons.util.ToStringBuilder;
+
+/**
+ * An exclusive resource identified by a key with a lock mode that is used to
+ * synchronize access to shared resources when executing nodes in parallel.
+ *
+ * @since 5.0
+ * @see Node#getExclusiveResources()
+ */
+public final class ExclusiveResource {
+
+	public enum LockMode {
+
+		/**
+		 * Require read and write access, i.e. exclusive access.
+		 */
+		READ_WRITE,
+
+		/**
+		 * Require only read access, i.e. access that may be shared with
+		 * other nodes that also only require read access.
+		 */
+		READ
+
+	}
+
+	private final String key;
+
+	private final LockMode lockMode;
+
+	public ExclusiveResource(String key, LockMode lockMode) {
+		this.key = Preconditions.notBlank(key, "key must not be null or empty");
+		this.lockMode = Preconditions.notNull(lockMode, "lockMode must not be null");
+	}
+
+	public String getKey() {
+		return this.key;
+	}
+
+	public LockMode getLockMode() {
+		return this.lockMode;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj instanceof ExclusiveResource) {
+			ExclusiveResource that = (ExclusiveResource) obj;
+			return this.key.equals(that.key) && this.lockMode == that.lockMode;
+		}
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.key, this.lockMode);
+	}
+
+	@Override
+	public String toString() {
+		// @formatter:off
+		return new ToStringBuilder(this)
+				.append("key", this.key)
+				.append("lockMode", this.lockMode)
+				.toString();
+		// @formatter:on
+	}
+
+}
@@ -14,15 +14,40 @@ package org.junit.gen5.engine;
  * Abstract superclass of all TestEngine implementations that are willing to use the {@linkplain Container} and
  * {@linkplain Leaf} nodes as main principle to organize test suites.
  *
+ * <p>Parallel execution of sibling nodes can be enabled by setting the {@value #PARALLEL_EXECUTION_ENABLED}
+ * {@linkplain ExecutionRequest#getAttributes attribute} or system property to {@code true}. The number of worker
+ * threads defaults to the number of available processors and can be configured via {@value #PARALLELISM}.
+ *
  * @param <C> The concrete type of {@linkplain EngineExecutionContext} used by a concrete subclass.
  */
 public abstract class HierarchicalTestEngine<C extends EngineExecutionContext> implements TestEngine {
 
+	/**
+	 * Name of the attribute or system property used to enable parallel execution: {@value}
+	 */
+	public static final String PARALLEL_EXECUTION_ENABLED = "junit.execution.parallel.enabled";
+
+	/**
+	 * Name of the attribute or system property used to configure the number of worker threads
+	 * for parallel execution: {@value}
+	 */
+	public static final String PARALLELISM = "junit.execution.parallel.parallelism";
+
 	@Override
 	public final void execute(ExecutionRequest request) {
+		if (HierarchicalTestExecutor.isParallelExecutionEnabled(request)) {
+			request = synchronizedRequest(request);
+		}
 		new HierarchicalTestExecutor<>(request, createExecutionContext(request)).execute();
 	}
 
+	private static ExecutionRequest synchronizedRequest(ExecutionRequest request) {
+		ExecutionRequest synchronizedRequest = new ExecutionRequest(request.getRootTestDescriptor(),
+			SynchronizedEngineExecutionListener.synchronizedListener(request.getEngineExecutionListener()));
+		synchronizedRequest.getAttributes().putAll(request.getAttributes());
+		return synchronizedRequest;
+	}
+
 	protected abstract C createExecutionContext(ExecutionRequest request);
 
 }
@@ -12,6 +12,23 @@ package org.junit.gen5.engine;
 
 import static org.junit.gen5.engine.BlacklistedExceptions.rethrowIfBlacklisted;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.gen5.commons.JUnitException;
+import org.junit.gen5.commons.util.ExceptionUtils;
+import org.junit.gen5.engine.LockManager.ResourceLock;
+import org.junit.gen5.engine.Node.ExecutionMode;
 import org.junit.gen5.engine.Node.SkipResult;
 
 /**
@@ -24,6 +41,20 @@ import org.junit.gen5.engine.Node.SkipResult;
  * of calling containers and leaves in the appropriate order as well as
  * calling the necessary events on an {@linkplain EngineExecutionListener}.
  *
+ * <p>If {@linkplain HierarchicalTestEngine#PARALLEL_EXECUTION_ENABLED parallel
+ * execution} is enabled, the children of each node are submitted as
+ * {@link ForkJoinTask ForkJoinTasks} to a dedicated {@link ForkJoinPool}.
+ * A node is still prepared, started, and {@linkplain Container#beforeAll set up}
+ * before any of its children and is {@linkplain Container#afterAll torn down}
+ * and finished only after all of its children have completed. Children whose
+ * {@linkplain Node#getExecutionMode execution mode} is
+ * {@link ExecutionMode#SAME_THREAD SAME_THREAD} are executed sequentially in
+ * the thread of their parent while their concurrent siblings are forked.
+ * Nodes that declare {@linkplain Node#getExclusiveResources exclusive
+ * resources} are only executed once the corresponding locks have been
+ * acquired. Events are delivered to the {@linkplain EngineExecutionListener
+ * listener} one at a time.
+ *
  * @param <C> the concrete type of {@linkplain EngineExecutionContext} used
  * by a concrete {@linkplain TestEngine}
  * @since 5.0
@@ -40,17 +71,87 @@ class HierarchicalTestExecutor<C extends EngineExecutionContext> {
 
 	private final C rootContext;
 
+	private final Optional<Integer> parallelism;
+
+	private final LockManager lockManager = new LockManager();
+
+	private final Map<TestDescriptor, ResourceLock> resourceLocks = new HashMap<>();
+
+	private final Set<TestDescriptor> sameThreadDescendants = new HashSet<>();
+
+	private ForkJoinPool forkJoinPool;
+
 	HierarchicalTestExecutor(ExecutionRequest request, C rootContext) {
 		this.rootTestDescriptor = request.getRootTestDescriptor();
-		this.listener = request.getEngineExecutionListener();
+		this.parallelism = determineParallelism(request);
+		this.listener = this.parallelism.isPresent()
+				? SynchronizedEngineExecutionListener.synchronizedListener(request.getEngineExecutionListener())
+				: request.getEngineExecutionListener();
 		this.rootContext = rootContext;
 	}
 
 	void execute() {
-		executeAll(rootTestDescriptor, rootContext);
+		if (!this.parallelism.isPresent()) {
+			executeAll(rootTestDescriptor, rootContext);
+			return;
+		}
+		this.forkJoinPool = new ForkJoinPool(this.parallelism.get(),
+			new ContextClassLoaderPreservingThreadFactory(Thread.currentThread().getContextClassLoader()), null,
+			false);
+		try {
+			collectResourceLocks(rootTestDescriptor);
+			AtomicReference<Throwable> exception = new AtomicReference<>();
+			this.forkJoinPool.invoke(toTask(rootTestDescriptor, rootContext, exception));
+			rethrowIfPresent(exception);
+		}
+		finally {
+			this.forkJoinPool.shutdownNow();
+			this.forkJoinPool = null;
+			this.resourceLocks.clear();
+			this.sameThreadDescendants.clear();
+		}
+	}
+
+	/**
+	 * Determine the locks to acquire for the supplied descriptor and its
+	 * descendants.
+	 *
+	 * <p>The topmost descriptor in each subtree that declares exclusive
+	 * resources acquires the locks for its own resources and the resources
+	 * of all of its descendants at once. Its descendants are then executed
+	 * in the same thread without acquiring any further locks. Since no thread
+	 * ever waits for a lock while holding another one, locks can be acquired
+	 * without risking deadlocks.
+	 */
+	private void collectResourceLocks(TestDescriptor testDescriptor) {
+		if (adapter.asNode(testDescriptor).getExclusiveResources().isEmpty()) {
+			testDescriptor.getChildren().forEach(this::collectResourceLocks);
+			return;
+		}
+		Set<? extends TestDescriptor> descendants = testDescriptor.allDescendants();
+		List<ExclusiveResource> resources = new ArrayList<>(
+			adapter.asNode(testDescriptor).getExclusiveResources());
+		descendants.forEach(descendant -> resources.addAll(adapter.asNode(descendant).getExclusiveResources()));
+		this.resourceLocks.put(testDescriptor, this.lockManager.getLockForResources(resources));
+		this.sameThreadDescendants.addAll(descendants);
 	}
 
 	private void executeAll(TestDescriptor testDescriptor, C parentContext) {
+		ResourceLock resourceLock = this.resourceLocks.get(testDescriptor);
+		if (resourceLock == null) {
+			executeNode(testDescriptor, parentContext);
+			return;
+		}
+		resourceLock.acquire();
+		try {
+			executeNode(testDescriptor, parentContext);
+		}
+		finally {
+			resourceLock.release();
+		}
+	}
+
+	private void executeNode(TestDescriptor testDescriptor, C parentContext) {
 
 		C preparedContext;
 		try {
@@ -76,12 +177,119 @@ class HierarchicalTestExecutor<C extends EngineExecutionContext> {
 			C context = adapter.asContainer(testDescriptor).beforeAll(preparedContext);
 			context = adapter.asLeaf(testDescriptor).execute(context);
 
+			executeChildren(testDescriptor, context);
+			context = adapter.asContainer(testDescriptor).afterAll(context);
+		});
+		listener.executionFinished(testDescriptor, result);
+	}
+
+	private void executeChildren(TestDescriptor testDescriptor, C context) {
+		if (this.forkJoinPool == null || testDescriptor.getChildren().size() < 2) {
 			for (TestDescriptor child : testDescriptor.getChildren()) {
 				executeAll(child, context);
 			}
-			context = adapter.asContainer(testDescriptor).afterAll(context);
+			return;
+		}
+
+		AtomicReference<Throwable> exception = new AtomicReference<>();
+		List<ForkJoinTask<?>> concurrentTasks = new ArrayList<>();
+		List<TestDescriptor> sameThreadChildren = new ArrayList<>();
+		for (TestDescriptor child : testDescriptor.getChildren()) {
+			if (getExecutionMode(child) == ExecutionMode.CONCURRENT) {
+				concurrentTasks.add(toTask(child, context, exception).fork());
+			}
+			else {
+				sameThreadChildren.add(child);
+			}
+		}
+		for (TestDescriptor child : sameThreadChildren) {
+			toTask(child, context, exception).invoke();
+		}
+		// Join in reverse order so that this thread executes the most recently forked
+		// task itself while earlier ones remain available to other workers.
+		for (int i = concurrentTasks.size() - 1; i >= 0; i--) {
+			concurrentTasks.get(i).join();
+		}
+		rethrowIfPresent(exception);
+	}
+
+	private ExecutionMode getExecutionMode(TestDescriptor testDescriptor) {
+		if (this.sameThreadDescendants.contains(testDescriptor)) {
+			return ExecutionMode.SAME_THREAD;
+		}
+		return adapter.asNode(testDescriptor).getExecutionMode();
+	}
+
+	/**
+	 * Create a {@link ForkJoinTask} that executes the supplied descriptor and
+	 * records the first exception thrown <em>as is</em>, since a
+	 * {@code ForkJoinPool} would otherwise rethrow a copy of exceptions that
+	 * were thrown in another worker thread.
+	 */
+	private ForkJoinTask<?> toTask(TestDescriptor testDescriptor, C context, AtomicReference<Throwable> exception) {
+		return ForkJoinTask.adapt(() -> {
+			try {
+				executeAll(testDescriptor, context);
+			}
+			catch (Throwable throwable) {
+				exception.compareAndSet(null, throwable);
+			}
 		});
-		listener.executionFinished(testDescriptor, result);
+	}
+
+	private static void rethrowIfPresent(AtomicReference<Throwable> exception) {
+		if (exception.get() != null) {
+			ExceptionUtils.throwAsUncheckedException(exception.get());
+		}
+	}
+
+	static boolean isParallelExecutionEnabled(ExecutionRequest request) {
+		return Boolean.parseBoolean(lookUp(request.getAttributes(), HierarchicalTestEngine.PARALLEL_EXECUTION_ENABLED));
+	}
+
+	private static Optional<Integer> determineParallelism(ExecutionRequest request) {
+		if (!isParallelExecutionEnabled(request)) {
+			return Optional.empty();
+		}
+		String parallelism = lookUp(request.getAttributes(), HierarchicalTestEngine.PARALLELISM);
+		if (parallelism == null) {
+			return Optional.of(Runtime.getRuntime().availableProcessors());
+		}
+		try {
+			int value = Integer.parseInt(parallelism.trim());
+			if (value > 0) {
+				return Optional.of(value);
+			}
+		}
+		catch (NumberFormatException ex) {
+			// fall through
+		}
+		throw new JUnitException(String.format("Invalid value for '%s': must be a positive integer but was '%s'.",
+			HierarchicalTestEngine.PARALLELISM, parallelism));
+	}
+
+	private static String lookUp(Map<String, Object> attributes, String key) {
+		Object value = attributes.get(key);
+		return (value != null ? value.toString() : System.getProperty(key));
+	}
+
+	private static class ContextClassLoaderPreservingThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+
+		private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+		private final ClassLoader contextClassLoader;
+
+		ContextClassLoaderPreservingThreadFactory(ClassLoader contextClassLoader) {
+			this.contextClassLoader = contextClassLoader;
+		}
+
+		@Override
+		public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+			ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+			thread.setName("junit-execution-worker-" + this.threadNumber.getAndIncrement());
+			thread.setContextClassLoader(this.contextClassLoader);
+			return thread;
+		}
 	}
 
 	private static class MixinAdapter<C extends EngineExecutionContext> {
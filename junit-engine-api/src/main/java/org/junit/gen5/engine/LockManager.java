@@ -0,0 +1,119 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.engine;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.junit.gen5.commons.util.ExceptionUtils;
+import org.junit.gen5.engine.ExclusiveResource.LockMode;
+
+/**
+ * Manages one {@link ReadWriteLock} per {@linkplain ExclusiveResource#getKey
+ * resource key}.
+ *
+ * <p>In order to prevent deadlocks, the locks for a set of resources are
+ * always acquired in the natural order of their keys. If the same key is
+ * requested in different lock modes, the write lock is used.
+ *
+ * @since 5.0
+ */
+class LockManager {
+
+	private final Map<String, ReadWriteLock> locksByKey = new ConcurrentHashMap<>();
+
+	ResourceLock getLockForResources(Collection<ExclusiveResource> resources) {
+		Map<String, LockMode> lockModesByKey = new TreeMap<>();
+		for (ExclusiveResource resource : resources) {
+			lockModesByKey.merge(resource.getKey(), resource.getLockMode(),
+				(mode1, mode2) -> mode1 == LockMode.READ_WRITE ? mode1 : mode2);
+		}
+		// @formatter:off
+		List<Lock> locks = lockModesByKey.entrySet().stream()
+				.map(entry -> toLock(entry.getKey(), entry.getValue()))
+				.collect(toList());
+		// @formatter:on
+		return new ResourceLock(locks);
+	}
+
+	private Lock toLock(String key, LockMode lockMode) {
+		ReadWriteLock lock = this.locksByKey.computeIfAbsent(key, k -> new ReentrantReadWriteLock());
+		return lockMode == LockMode.READ ? lock.readLock() : lock.writeLock();
+	}
+
+	static class ResourceLock {
+
+		private final List<Lock> locks;
+
+		ResourceLock(List<Lock> locks) {
+			this.locks = locks;
+		}
+
+		void acquire() {
+			for (int i = 0; i < this.locks.size(); i++) {
+				try {
+					// Allow the pool to compensate for workers blocked on a lock.
+					ForkJoinPool.managedBlock(new LockBlocker(this.locks.get(i)));
+				}
+				catch (InterruptedException ex) {
+					release(i);
+					Thread.currentThread().interrupt();
+					ExceptionUtils.throwAsUncheckedException(ex);
+				}
+			}
+		}
+
+		void release() {
+			release(this.locks.size());
+		}
+
+		private void release(int numberOfAcquiredLocks) {
+			for (int i = numberOfAcquiredLocks - 1; i >= 0; i--) {
+				this.locks.get(i).unlock();
+			}
+		}
+	}
+
+	private static class LockBlocker implements ForkJoinPool.ManagedBlocker {
+
+		private final Lock lock;
+
+		private boolean acquired;
+
+		LockBlocker(Lock lock) {
+			this.lock = lock;
+		}
+
+		@Override
+		public boolean block() throws InterruptedException {
+			if (!this.acquired) {
+				this.lock.lockInterruptibly();
+				this.acquired = true;
+			}
+			return true;
+		}
+
+		@Override
+		public boolean isReleasable() {
+			return this.acquired || (this.acquired = this.lock.tryLock());
+		}
+	}
+
+}
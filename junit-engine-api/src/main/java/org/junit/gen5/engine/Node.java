@@ -10,7 +10,10 @@
 
 package org.junit.gen5.engine;
 
+import static java.util.Collections.emptySet;
+
 import java.util.Optional;
+import java.util.Set;
 
 public interface Node<C extends EngineExecutionContext> {
 
@@ -22,6 +25,42 @@ public interface Node<C extends EngineExecutionContext> {
 		return SkipResult.dontSkip();
 	}
 
+	/**
+	 * Determine whether this node may be executed concurrently with its
+	 * siblings when parallel execution is enabled.
+	 *
+	 * <p>Defaults to {@link ExecutionMode#CONCURRENT CONCURRENT}.
+	 */
+	default ExecutionMode getExecutionMode() {
+		return ExecutionMode.CONCURRENT;
+	}
+
+	/**
+	 * Get the set of {@linkplain ExclusiveResource exclusive resources} this
+	 * node requires when executed in parallel.
+	 *
+	 * <p>Resources declared by a node are acquired before the node is
+	 * prepared and released after it has finished. Defaults to an empty set.
+	 */
+	default Set<ExclusiveResource> getExclusiveResources() {
+		return emptySet();
+	}
+
+	enum ExecutionMode {
+
+		/**
+		 * Execute in the same thread as the parent node, i.e. sequentially
+		 * with all siblings that are also executed in the same thread.
+		 */
+		SAME_THREAD,
+
+		/**
+		 * Allow concurrent execution with siblings.
+		 */
+		CONCURRENT
+
+	}
+
 	class SkipResult {
 		private final boolean skipped;
 		private final String reason;
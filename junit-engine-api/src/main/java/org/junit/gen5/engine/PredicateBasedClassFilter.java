@@ -15,10 +15,17 @@ import java.util.function.Supplier;
 
 class PredicateBasedClassFilter implements ClassFilter {
 
+	private final Predicate<String> classNamePredicate;
 	private final Predicate<? super Class<?>> predicate;
 	private final Supplier<String> descriptionSupplier;
 
 	PredicateBasedClassFilter(Predicate<? super Class<?>> predicate, Supplier<String> descriptionSupplier) {
+		this(className -> true, predicate, descriptionSupplier);
+	}
+
+	PredicateBasedClassFilter(Predicate<String> classNamePredicate, Predicate<? super Class<?>> predicate,
+			Supplier<String> descriptionSupplier) {
+		this.classNamePredicate = classNamePredicate;
 		this.predicate = predicate;
 		this.descriptionSupplier = descriptionSupplier;
 	}
@@ -28,6 +35,11 @@ class PredicateBasedClassFilter implements ClassFilter {
 		return descriptionSupplier.get();
 	}
 
+	@Override
+	public boolean acceptClassName(String className) {
+		return classNamePredicate.test(className);
+	}
+
 	@Override
 	public boolean acceptClass(Class<?> testClass) {
 		return predicate.test(testClass);
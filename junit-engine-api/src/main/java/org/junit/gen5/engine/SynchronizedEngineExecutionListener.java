@@ -0,0 +1,63 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.engine;
+
+import java.util.Map;
+
+/**
+ * {@link EngineExecutionListener} that serializes all events it forwards to
+ * its delegate so that listeners which are not thread-safe can be used when
+ * tests are executed in parallel.
+ *
+ * @since 5.0
+ */
+final class SynchronizedEngineExecutionListener implements EngineExecutionListener {
+
+	static EngineExecutionListener synchronizedListener(EngineExecutionListener listener) {
+		if (listener instanceof SynchronizedEngineExecutionListener) {
+			return listener;
+		}
+		return new SynchronizedEngineExecutionListener(listener);
+	}
+
+	private final EngineExecutionListener delegate;
+
+	private SynchronizedEngineExecutionListener(EngineExecutionListener delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public synchronized void reportingEntryPublished(TestDescriptor testDescriptor, Map<String, String> entry) {
+		this.delegate.reportingEntryPublished(testDescriptor, entry);
+	}
+
+	@Override
+	public synchronized void dynamicTestRegistered(TestDescriptor testDescriptor) {
+		this.delegate.dynamicTestRegistered(testDescriptor);
+	}
+
+	@Override
+	public synchronized void executionSkipped(TestDescriptor testDescriptor, String reason) {
+		this.delegate.executionSkipped(testDescriptor, reason);
+	}
+
+	@Override
+	public synchronized void executionStarted(TestDescriptor testDescriptor) {
+		this.delegate.executionStarted(testDescriptor);
+	}
+
+	@Override
+	public synchronized void executionFinished(TestDescriptor testDescriptor,
+			TestExecutionResult testExecutionResult) {
+		this.delegate.executionFinished(testDescriptor, testExecutionResult);
+	}
+
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.engine;
+
+import static java.util.stream.Collectors.toSet;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.gen5.commons.util.PreconditionViolationException;
+import org.junit.gen5.commons.util.Preconditions;
+
+/**
+ * A boolean expression over {@linkplain TestTag tags} that is compiled once
+ * and then evaluated for each {@link TestDescriptor}.
+ *
+ * <p>Expressions consist of tag names, the operators {@code not} (or
+ * {@code !}), {@code and} (or {@code &}) and {@code or} (or {@code |}) in
+ * order of decreasing precedence, and parentheses, e.g.
+ * {@code (fast or integration) and not slow}.
+ *
+ * <p>Each tag name in the expression is compiled into a lookup in the tag
+ * set of the tested descriptor, so evaluating the expression does not
+ * allocate.
+ *
+ * @since 5.0
+ */
+public final class TagExpression implements Predicate<TestDescriptor> {
+
+	private static final String OPERATOR_CHARACTERS = "()!&|";
+
+	private final String expression;
+
+	private final Predicate<Set<TestTag>> compiledExpression;
+
+	/**
+	 * Parse and compile the supplied tag expression.
+	 *
+	 * @throws PreconditionViolationException if the expression is blank or
+	 * not well-formed
+	 */
+	public static TagExpression parse(String expression) {
+		Preconditions.notBlank(expression, "tag expression must not be null or empty");
+		Parser parser = new Parser(expression);
+		return new TagExpression(expression, parser.parse());
+	}
+
+	/**
+	 * Create an expression that matches descriptors with at least one of the
+	 * supplied tags.
+	 */
+	public static TagExpression anyOf(Collection<String> tagNames) {
+		return new TagExpression("any of " + tagNames, containsAnyOf(tagNames));
+	}
+
+	/**
+	 * Create an expression that matches descriptors with none of the
+	 * supplied tags.
+	 */
+	public static TagExpression noneOf(Collection<String> tagNames) {
+		return new TagExpression("none of " + tagNames, containsAnyOf(tagNames).negate());
+	}
+
+	private static Predicate<Set<TestTag>> containsAnyOf(Collection<String> tagNames) {
+		Set<TestTag> expectedTags = tagNames.stream().map(TestTag::new).collect(toSet());
+		return tags -> {
+			for (TestTag tag : tags) {
+				if (expectedTags.contains(tag)) {
+					return true;
+				}
+			}
+			return false;
+		};
+	}
+
+	private TagExpression(String expression, Predicate<Set<TestTag>> compiledExpression) {
+		this.expression = expression;
+		this.compiledExpression = compiledExpression;
+	}
+
+	@Override
+	public boolean test(TestDescriptor descriptor) {
+		return this.compiledExpression.test(descriptor.getTags());
+	}
+
+	@Override
+	public String toString() {
+		return this.expression;
+	}
+
+	/**
+	 * Recursive descent parser that compiles an expression into a predicate
+	 * over the tags of a descriptor.
+	 */
+	private static class Parser {
+
+		private final String expression;
+
+		private final List<String> tokens;
+
+		private int position;
+
+		Parser(String expression) {
+			this.expression = expression;
+			this.tokens = tokenize(expression);
+		}
+
+		private static List<String> tokenize(String expression) {
+			List<String> tokens = new ArrayList<>();
+			StringBuilder tagName = new StringBuilder();
+			for (char c : expression.toCharArray()) {
+				if (Character.isWhitespace(c) || OPERATOR_CHARACTERS.indexOf(c) >= 0) {
+					if (tagName.length() > 0) {
+						tokens.add(tagName.toString());
+						tagName.setLength(0);
+					}
+					if (!Character.isWhitespace(c)) {
+						tokens.add(String.valueOf(c));
+					}
+				}
+				else {
+					tagName.append(c);
+				}
+			}
+			if (tagName.length() > 0) {
+				tokens.add(tagName.toString());
+			}
+			return tokens;
+		}
+
+		Predicate<Set<TestTag>> parse() {
+			Predicate<Set<TestTag>> result = parseOr();
+			if (this.position < this.tokens.size()) {
+				throw invalid("unexpected '" + this.tokens.get(this.position) + "'");
+			}
+			return result;
+		}
+
+		private Predicate<Set<TestTag>> parseOr() {
+			Predicate<Set<TestTag>> result = parseAnd();
+			while (accept("|", "or")) {
+				result = result.or(parseAnd());
+			}
+			return result;
+		}
+
+		private Predicate<Set<TestTag>> parseAnd() {
+			Predicate<Set<TestTag>> result = parseNot();
+			while (accept("&", "and")) {
+				result = result.and(parseNot());
+			}
+			return result;
+		}
+
+		private Predicate<Set<TestTag>> parseNot() {
+			if (accept("!", "not")) {
+				return parseNot().negate();
+			}
+			if (accept("(", "(")) {
+				Predicate<Set<TestTag>> result = parseOr();
+				if (!accept(")", ")")) {
+					throw invalid("missing ')'");
+				}
+				return result;
+			}
+			if (this.position == this.tokens.size()) {
+				throw invalid("missing tag name");
+			}
+			String token = this.tokens.get(this.position);
+			if (isOperator(token)) {
+				throw invalid("unexpected '" + token + "'");
+			}
+			this.position++;
+			TestTag tag = new TestTag(token);
+			return tags -> tags.contains(tag);
+		}
+
+		private boolean accept(String symbol, String keyword) {
+			if (this.position < this.tokens.size()) {
+				String token = this.tokens.get(this.position);
+				if (token.equals(symbol) || token.equals(keyword)) {
+					this.position++;
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private static boolean isOperator(String token) {
+			return OPERATOR_CHARACTERS.contains(token) || token.equals("and") || token.equals("or")
+					|| token.equals("not");
+		}
+
+		private PreconditionViolationException invalid(String reason) {
+			return new PreconditionViolationException(
+				String.format("Invalid tag expression '%s': %s", this.expression, reason));
+		}
+	}
+
+}
@@ -98,23 +98,24 @@ public final class TestPlanSpecification implements Iterable<TestPlanSpecificati
 	}
 
 	public static Predicate<TestDescriptor> byTags(List<String> includeTags) {
-		// @formatter:off
-		return descriptor -> descriptor.getTags().stream()
-				.map(TestTag::getName)
-				.anyMatch(includeTags::contains);
-		// @formatter:on
+		return TagExpression.anyOf(includeTags);
 	}
 
 	public static Predicate<TestDescriptor> excludeTags(String... tagNames) {
 		return excludeTags(Arrays.asList(tagNames));
 	}
 
-	public static Predicate<TestDescriptor> excludeTags(List<String> includeTags) {
-		// @formatter:off
-		return descriptor -> descriptor.getTags().stream()
-				.map(TestTag::getName)
-				.allMatch(tagName -> !includeTags.contains(tagName));
-		// @formatter:on
+	public static Predicate<TestDescriptor> excludeTags(List<String> excludeTags) {
+		return TagExpression.noneOf(excludeTags);
+	}
+
+	/**
+	 * Create a filter that accepts descriptors whose tags match the supplied
+	 * {@linkplain TagExpression tag expression}, e.g.
+	 * {@code "fast and not integration"}.
+	 */
+	public static Predicate<TestDescriptor> byTagExpression(String tagExpression) {
+		return TagExpression.parse(tagExpression);
 	}
 
 	public static Predicate<TestDescriptor> byEngine(String engineId) {
@@ -138,6 +139,12 @@ public final class TestPlanSpecification implements Iterable<TestPlanSpecificati
 	// Engine filters are handed through to all test engines to be applied during discovery
 	private List<EngineFilter> engineFilters = new ArrayList<>();
 
+	// Combined class filter; reused so that engines can share classpath scans that apply it
+	private volatile ClassFilter classFilter;
+
+	// Classpath scans are shared by all test engines discovering tests for this specification
+	private final ClasspathScanCache classpathScanCache = new ClasspathScanCache();
+
 	public TestPlanSpecification(List<TestPlanSpecificationElement> elements) {
 		this.elements = elements;
 	}
@@ -163,10 +170,22 @@ public final class TestPlanSpecification implements Iterable<TestPlanSpecificati
 	public void filterWith(EngineFilter filter) {
 		Preconditions.notNull(filter, "filter must not be null");
 		this.engineFilters.add(filter);
+		this.classFilter = null;
 	}
 
+	/**
+	 * Get a filter that combines all {@link ClassFilter ClassFilters} of this
+	 * specification.
+	 *
+	 * <p>The same instance is returned until another filter is added.
+	 */
 	public ClassFilter getClassFilter() {
-		return ClassFilters.allOf(getEngineFilters(ClassFilter.class));
+		ClassFilter filter = this.classFilter;
+		if (filter == null) {
+			filter = ClassFilters.allOf(getEngineFilters(ClassFilter.class));
+			this.classFilter = filter;
+		}
+		return filter;
 	}
 
 	public <T extends EngineFilter> List<T> getEngineFilters(Class<T> filterClass) {
@@ -179,6 +198,24 @@ public final class TestPlanSpecification implements Iterable<TestPlanSpecificati
 		// @formatter:on
 	}
 
+	/**
+	 * Get the cache of classpath scan results shared by all test engines that
+	 * discover tests for this specification.
+	 */
+	public ClasspathScanCache getClasspathScanCache() {
+		return this.classpathScanCache;
+	}
+
+	/**
+	 * Determine if the supplied engine is included by all
+	 * {@link EngineIdFilter EngineIdFilters} of this specification and thus
+	 * needs to discover tests at all.
+	 */
+	public boolean acceptEngine(TestEngine testEngine) {
+		Preconditions.notNull(testEngine, "testEngine must not be null");
+		return getEngineFilters(EngineIdFilter.class).stream().allMatch(filter -> filter.acceptEngine(testEngine));
+	}
+
 	public boolean acceptDescriptor(TestDescriptor testDescriptor) {
 		Preconditions.notNull(testDescriptor, "testDescriptor must not be null");
 		return this.descriptorFilter.test(testDescriptor);
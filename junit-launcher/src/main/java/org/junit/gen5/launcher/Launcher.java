@@ -10,9 +10,21 @@
 
 package org.junit.gen5.launcher;
 
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
+import org.junit.gen5.commons.util.ExceptionUtils;
+import org.junit.gen5.commons.util.Preconditions;
 import org.junit.gen5.engine.EngineAwareTestDescriptor;
 import org.junit.gen5.engine.EngineExecutionListener;
 import org.junit.gen5.engine.ExecutionRequest;
@@ -33,11 +45,14 @@ import org.junit.gen5.engine.TestPlanSpecification;
  *
  * <p>Discovering or executing tests requires a {@link TestPlanSpecification}
  * which is passed to all registered engines. Each engine decides which tests
- * it can discover and later execute according to this specification.
+ * it can discover and later execute according to this specification. Engines
+ * excluded by an {@link org.junit.gen5.engine.EngineIdFilter EngineIdFilter}
+ * of the specification are not asked to discover any tests.
  *
  * <p>Users of this class may optionally call {@link #discover} prior to
- * {@link #execute} in order to inspect the {@link TestPlan} before executing
- * it.
+ * {@link #execute(TestPlan)} in order to inspect the {@link TestPlan} before
+ * executing it. The discovered test plan is executed without discovering the
+ * tests again.
  *
  * <p>Prior to executing tests, users of this class should
  * {@linkplain #registerTestExecutionListeners register} one or more
@@ -45,6 +60,13 @@ import org.junit.gen5.engine.TestPlanSpecification;
  * progress and results of test execution. Listeners are notified of events
  * in the order in which they were registered.
  *
+ * <p>By default, test engines are executed one after another. If
+ * {@linkplain #setParallelEngineExecutionEnabled parallel engine execution}
+ * is enabled, each engine is executed in a separate thread. Listeners are
+ * still notified of one event at a time. Likewise, engines discover their
+ * tests concurrently if {@linkplain #setParallelEngineDiscoveryEnabled
+ * parallel engine discovery} is enabled.
+ *
  * @since 5.0
  * @see TestPlanSpecification
  * @see TestPlan
@@ -58,6 +80,10 @@ public class Launcher {
 
 	private final TestEngineRegistry testEngineRegistry;
 
+	private boolean parallelEngineDiscoveryEnabled;
+
+	private boolean parallelEngineExecutionEnabled;
+
 	public Launcher() {
 		this(new ServiceLoaderTestEngineRegistry());
 	}
@@ -76,6 +102,32 @@ public class Launcher {
 		listenerRegistry.registerListener(listeners);
 	}
 
+	/**
+	 * Enable or disable concurrent discovery in the registered test engines.
+	 *
+	 * <p>When enabled, each engine discovers its tests in a separate thread.
+	 * The resulting test trees are combined in the order in which the engines
+	 * are registered before any filters are applied.
+	 *
+	 * @param enabled {@code true} to discover tests in engines concurrently
+	 */
+	public void setParallelEngineDiscoveryEnabled(boolean enabled) {
+		this.parallelEngineDiscoveryEnabled = enabled;
+	}
+
+	/**
+	 * Enable or disable concurrent execution of the registered test engines.
+	 *
+	 * <p>When enabled, each engine is executed in a separate thread and the
+	 * launcher waits for all engines to finish before notifying listeners
+	 * that the execution of the test plan has finished.
+	 *
+	 * @param enabled {@code true} to execute engines concurrently
+	 */
+	public void setParallelEngineExecutionEnabled(boolean enabled) {
+		this.parallelEngineExecutionEnabled = enabled;
+	}
+
 	/**
 	 * Discover tests and build a {@link TestPlan} according to the supplied
 	 * {@link TestPlanSpecification} by querying all registered engines and
@@ -98,35 +150,135 @@ public class Launcher {
 	 * @param specification the specification to be resolved
 	 */
 	public void execute(TestPlanSpecification specification) {
-		execute(discoverRootDescriptor(specification, "execution"));
+		execute(TestPlan.from(discoverRootDescriptor(specification, "execution")));
+	}
+
+	/**
+	 * Execute a {@link TestPlan} that was previously {@linkplain #discover
+	 * discovered} without querying the registered engines again, and notify
+	 * {@linkplain #registerTestExecutionListeners registered listeners} about
+	 * the progress and results of the execution.
+	 *
+	 * <p>A test plan can be executed only once.
+	 *
+	 * @param testPlan the test plan to be executed
+	 * @throws org.junit.gen5.commons.util.PreconditionViolationException if
+	 * the test plan was not discovered by a {@code Launcher} or has already
+	 * been executed
+	 */
+	public void execute(TestPlan testPlan) {
+		Preconditions.notNull(testPlan, "testPlan must not be null");
+		RootTestDescriptor root = testPlan.startExecution();
+		TestExecutionListener testExecutionListener = listenerRegistry.getCompositeTestExecutionListener();
+		testExecutionListener.testPlanExecutionStarted(testPlan);
+		ExecutionListenerAdapter engineExecutionListener = new ExecutionListenerAdapter(testPlan,
+			testExecutionListener);
+		List<TestEngine> testEngines = new ArrayList<>();
+		root.getTestEngines().forEach(testEngines::add);
+		Function<TestEngine, Void> execution = testEngine -> {
+			TestDescriptor testDescriptor = root.getTestDescriptorFor(testEngine);
+			testEngine.execute(new ExecutionRequest(testDescriptor, engineExecutionListener));
+			return null;
+		};
+		if (this.parallelEngineExecutionEnabled) {
+			invokeConcurrently(testEngines, "junit-engine-executor-", execution);
+		}
+		else {
+			testEngines.forEach(execution::apply);
+		}
+		testExecutionListener.testPlanExecutionFinished(testPlan);
 	}
 
 	private RootTestDescriptor discoverRootDescriptor(TestPlanSpecification specification, String phase) {
 		RootTestDescriptor root = new RootTestDescriptor();
+		List<TestEngine> testEngines = new ArrayList<>();
 		for (TestEngine testEngine : testEngineRegistry.getTestEngines()) {
+			if (specification.acceptEngine(testEngine)) {
+				testEngines.add(testEngine);
+			}
+			else {
+				LOG.fine(() -> String.format("Skipping launcher %s phase in excluded engine '%s'.", phase,
+					testEngine.getId()));
+			}
+		}
+		Function<TestEngine, EngineAwareTestDescriptor> discovery = testEngine -> {
 			LOG.fine(() -> String.format("Discovering tests during launcher %s phase in engine '%s'.", phase,
 				testEngine.getId()));
-			EngineAwareTestDescriptor engineRoot = testEngine.discoverTests(specification);
-			root.addChild(engineRoot);
-		}
-		root.applyFilters(specification);
-		root.prune();
+			return testEngine.discoverTests(specification);
+		};
+		List<EngineAwareTestDescriptor> engineRoots = this.parallelEngineDiscoveryEnabled
+				? invokeConcurrently(testEngines, "junit-engine-discovery-", discovery)
+				: testEngines.stream().map(discovery).collect(toList());
+		engineRoots.forEach(root::addChild);
+		root.applyFiltersAndPrune(specification);
 		return root;
 	}
 
-	private void execute(RootTestDescriptor root) {
-		TestPlan testPlan = TestPlan.from(root);
-		TestExecutionListener testExecutionListener = listenerRegistry.getCompositeTestExecutionListener();
-		testExecutionListener.testPlanExecutionStarted(testPlan);
-		ExecutionListenerAdapter engineExecutionListener = new ExecutionListenerAdapter(testPlan,
-			testExecutionListener);
-		for (TestEngine testEngine : root.getTestEngines()) {
-			TestDescriptor testDescriptor = root.getTestDescriptorFor(testEngine);
-			testEngine.execute(new ExecutionRequest(testDescriptor, engineExecutionListener));
+	/**
+	 * Apply the supplied action to each engine in a separate thread and
+	 * return the results in the order of the supplied engines.
+	 *
+	 * <p>Waits for all actions to complete and rethrows the first exception
+	 * thrown by any of them, if any.
+	 */
+	private static <T> List<T> invokeConcurrently(List<TestEngine> testEngines, String threadNamePrefix,
+			Function<TestEngine, T> action) {
+		if (testEngines.size() < 2) {
+			return testEngines.stream().map(action).collect(toList());
+		}
+
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		AtomicInteger threadNumber = new AtomicInteger(1);
+		ExecutorService executorService = Executors.newFixedThreadPool(testEngines.size(), runnable -> {
+			Thread thread = new Thread(runnable, threadNamePrefix + threadNumber.getAndIncrement());
+			thread.setContextClassLoader(contextClassLoader);
+			return thread;
+		});
+		try {
+			List<Future<T>> futures = new ArrayList<>();
+			for (TestEngine testEngine : testEngines) {
+				futures.add(executorService.submit(() -> action.apply(testEngine)));
+			}
+			return awaitAll(futures);
+		}
+		finally {
+			executorService.shutdownNow();
 		}
-		testExecutionListener.testPlanExecutionFinished(testPlan);
 	}
 
+	private static <T> List<T> awaitAll(List<Future<T>> futures) {
+		List<T> results = new ArrayList<>();
+		Throwable firstFailure = null;
+		for (Future<T> future : futures) {
+			try {
+				results.add(future.get());
+			}
+			catch (ExecutionException ex) {
+				if (firstFailure == null) {
+					firstFailure = ex.getCause();
+				}
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				if (firstFailure == null) {
+					firstFailure = ex;
+				}
+			}
+		}
+		if (firstFailure != null) {
+			ExceptionUtils.throwAsUncheckedException(firstFailure);
+		}
+		return results;
+	}
+
+	/**
+	 * Adapts {@link EngineExecutionListener} events to the composite
+	 * {@link TestExecutionListener}.
+	 *
+	 * <p>All events are forwarded while holding this adapter's monitor so
+	 * that registered listeners receive one event at a time, even if engines
+	 * report events from different threads.
+	 */
 	static class ExecutionListenerAdapter implements EngineExecutionListener {
 
 		private final TestPlan testPlan;
@@ -138,29 +290,30 @@ public class Launcher {
 		}
 
 		@Override
-		public void reportingEntryPublished(TestDescriptor testDescriptor, Map<String, String> entry) {
+		public synchronized void reportingEntryPublished(TestDescriptor testDescriptor, Map<String, String> entry) {
 			testExecutionListener.reportingEntryPublished(getTestIdentifier(testDescriptor), entry);
 		}
 
 		@Override
-		public void dynamicTestRegistered(TestDescriptor testDescriptor) {
+		public synchronized void dynamicTestRegistered(TestDescriptor testDescriptor) {
 			TestIdentifier testIdentifier = TestIdentifier.from(testDescriptor);
 			testPlan.add(testIdentifier);
 			testExecutionListener.dynamicTestRegistered(testIdentifier);
 		}
 
 		@Override
-		public void executionStarted(TestDescriptor testDescriptor) {
+		public synchronized void executionStarted(TestDescriptor testDescriptor) {
 			testExecutionListener.executionStarted(getTestIdentifier(testDescriptor));
 		}
 
 		@Override
-		public void executionSkipped(TestDescriptor testDescriptor, String reason) {
+		public synchronized void executionSkipped(TestDescriptor testDescriptor, String reason) {
 			testExecutionListener.executionSkipped(getTestIdentifier(testDescriptor), reason);
 		}
 
 		@Override
-		public void executionFinished(TestDescriptor testDescriptor, TestExecutionResult testExecutionResult) {
+		public synchronized void executionFinished(TestDescriptor testDescriptor,
+				TestExecutionResult testExecutionResult) {
 			testExecutionListener.executionFinished(getTestIdentifier(testDescriptor), testExecutionResult);
 		}
 
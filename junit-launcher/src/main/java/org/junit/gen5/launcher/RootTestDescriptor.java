@@ -10,6 +10,7 @@
 
 package org.junit.gen5.launcher;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
@@ -82,23 +83,38 @@ final class RootTestDescriptor extends AbstractTestDescriptor {
 		return true;
 	}
 
-	void applyFilters(TestPlanSpecification specification) {
-		Visitor filteringVisitor = (descriptor, remove) -> {
-			if (!descriptor.isTest())
-				return;
-			if (!specification.acceptDescriptor(descriptor))
-				remove.run();
-		};
-		accept(filteringVisitor);
+	/**
+	 * Remove all tests rejected by the supplied specification and all
+	 * containers left without tests in a single post-order traversal.
+	 *
+	 * <p>Children are only collected into a list if some of them actually
+	 * need to be removed.
+	 */
+	void applyFiltersAndPrune(TestPlanSpecification specification) {
+		removeRejectedChildren(this, specification);
 	}
 
-	void prune() {
-		Visitor pruningVisitor = (descriptor, remove) -> {
-			if (descriptor.isRoot() || descriptor.hasTests())
-				return;
-			remove.run();
-		};
-		accept(pruningVisitor);
+	private static boolean filterAndPrune(TestDescriptor descriptor, TestPlanSpecification specification) {
+		if (descriptor.isTest() && !specification.acceptDescriptor(descriptor)) {
+			return false;
+		}
+		removeRejectedChildren(descriptor, specification);
+		return descriptor.hasTests();
+	}
+
+	private static void removeRejectedChildren(TestDescriptor parent, TestPlanSpecification specification) {
+		List<TestDescriptor> rejectedChildren = null;
+		for (TestDescriptor child : parent.getChildren()) {
+			if (!filterAndPrune(child, specification)) {
+				if (rejectedChildren == null) {
+					rejectedChildren = new ArrayList<>();
+				}
+				rejectedChildren.add(child);
+			}
+		}
+		if (rejectedChildren != null) {
+			rejectedChildren.forEach(parent::removeChild);
+		}
 	}
 
 	@Override
@@ -10,6 +10,7 @@
 
 package org.junit.gen5.launcher;
 
+import static java.util.Collections.emptySet;
 import static java.util.Collections.unmodifiableSet;
 
 import java.io.Serializable;
@@ -60,7 +61,7 @@ public final class TestIdentifier implements Serializable {
 		this.uniqueId = uniqueId;
 		this.displayName = displayName;
 		this.source = source.orElse(null);
-		this.tags = unmodifiableSet(new LinkedHashSet<>(tags));
+		this.tags = tags.isEmpty() ? emptySet() : unmodifiableSet(new LinkedHashSet<>(tags));
 		this.test = test;
 		this.container = container;
 		this.parentId = parentId.orElse(null);
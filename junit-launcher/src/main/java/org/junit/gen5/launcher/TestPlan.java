@@ -12,11 +12,13 @@ package org.junit.gen5.launcher;
 
 import static java.util.Collections.*;
 
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 
 import org.junit.gen5.commons.util.Preconditions;
@@ -40,6 +42,16 @@ import org.junit.gen5.engine.TestDescriptor.Visitor;
  * registered at runtime, it is added to the original test plan as reported to
  * {@link TestExecutionListener} implementations.
  *
+ * <p>A test plan returned by {@link Launcher#discover} retains the discovered
+ * test descriptors so that it can be {@linkplain Launcher#execute(TestPlan)
+ * executed} once without discovering the tests again.
+ *
+ * <p>Instances of this class are thread-safe. Since identifiers may be added
+ * concurrently, the sets returned by {@link #getRoots()},
+ * {@link #getChildren(TestIdentifier)}, and {@link #getDescendants(TestIdentifier)}
+ * are snapshots rather than live views. Snapshots are shared between calls
+ * until the underlying set changes.
+ *
  * @since 5.0
  * @see Launcher
  * @see TestExecutionListener
@@ -50,8 +62,15 @@ public final class TestPlan {
 	private final Map<TestId, LinkedHashSet<TestIdentifier>> children = new LinkedHashMap<>();
 	private final Map<TestId, TestIdentifier> allIdentifiers = new LinkedHashMap<>();
 
+	private Set<TestIdentifier> rootsSnapshot = emptySet();
+	private final Map<TestId, Set<TestIdentifier>> childrenSnapshots = new HashMap<>();
+
+	private final RootTestDescriptor rootDescriptor;
+
+	private final AtomicBoolean executed = new AtomicBoolean();
+
 	static TestPlan from(TestDescriptor root) {
-		TestPlan testPlan = new TestPlan();
+		TestPlan testPlan = new TestPlan(root instanceof RootTestDescriptor ? (RootTestDescriptor) root : null);
 		root.accept(new Visitor() {
 
 			@Override
@@ -62,15 +81,35 @@ public final class TestPlan {
 		return testPlan;
 	}
 
-	void add(TestIdentifier testIdentifier) {
+	private TestPlan(RootTestDescriptor rootDescriptor) {
+		this.rootDescriptor = rootDescriptor;
+	}
+
+	/**
+	 * Get the discovered test descriptors of this test plan and mark it as
+	 * executed.
+	 *
+	 * @throws org.junit.gen5.commons.util.PreconditionViolationException if
+	 * this test plan was not discovered by a {@link Launcher} or has already
+	 * been executed
+	 */
+	RootTestDescriptor startExecution() {
+		Preconditions.notNull(this.rootDescriptor, "TestPlan was not discovered by a Launcher");
+		Preconditions.condition(this.executed.compareAndSet(false, true), "TestPlan has already been executed");
+		return this.rootDescriptor;
+	}
+
+	synchronized void add(TestIdentifier testIdentifier) {
 		allIdentifiers.put(testIdentifier.getUniqueId(), testIdentifier);
 		if (testIdentifier.getParentId().isPresent()) {
 			TestId parentId = testIdentifier.getParentId().get();
 			Set<TestIdentifier> directChildren = children.computeIfAbsent(parentId, key -> new LinkedHashSet<>());
-			directChildren.add(testIdentifier);
+			if (directChildren.add(testIdentifier)) {
+				childrenSnapshots.remove(parentId);
+			}
 		}
-		else {
-			roots.add(testIdentifier);
+		else if (roots.add(testIdentifier)) {
+			rootsSnapshot = null;
 		}
 	}
 
@@ -79,8 +118,11 @@ public final class TestPlan {
 	 *
 	 * @return the unmodifiable set of root identifiers
 	 */
-	public Set<TestIdentifier> getRoots() {
-		return unmodifiableSet(roots);
+	public synchronized Set<TestIdentifier> getRoots() {
+		if (rootsSnapshot == null) {
+			rootsSnapshot = unmodifiableSet(new LinkedHashSet<>(roots));
+		}
+		return rootsSnapshot;
 	}
 
 	/**
@@ -115,8 +157,12 @@ public final class TestPlan {
 	 * @return the unmodifiable set of the {@code parentId}'s children, if any;
 	 * otherwise empty.
 	 */
-	public Set<TestIdentifier> getChildren(TestId parentId) {
-		return children.containsKey(parentId) ? unmodifiableSet(children.get(parentId)) : emptySet();
+	public synchronized Set<TestIdentifier> getChildren(TestId parentId) {
+		if (!children.containsKey(parentId)) {
+			return emptySet();
+		}
+		return childrenSnapshots.computeIfAbsent(parentId,
+			key -> unmodifiableSet(new LinkedHashSet<>(children.get(key))));
 	}
 
 	/**
@@ -127,7 +173,7 @@ public final class TestPlan {
 	 * @throws IllegalArgumentException if no {@link TestIdentifier} with the
 	 * specified unique ID has been added to this test plan
 	 */
-	public TestIdentifier getTestIdentifier(TestId testId) {
+	public synchronized TestIdentifier getTestIdentifier(TestId testId) {
 		Preconditions.condition(allIdentifiers.containsKey(testId),
 			() -> "No TestIdentifier with this TestId has been added to this TestPlan: " + testId);
 		return allIdentifiers.get(testId);
@@ -142,7 +188,7 @@ public final class TestPlan {
 	 * @return the number of identifiers that satisfy the specified
 	 * {@code predicate}.
 	 */
-	public long countTestIdentifiers(Predicate<? super TestIdentifier> predicate) {
+	public synchronized long countTestIdentifiers(Predicate<? super TestIdentifier> predicate) {
 		return allIdentifiers.values().stream().filter(predicate).count();
 	}
 
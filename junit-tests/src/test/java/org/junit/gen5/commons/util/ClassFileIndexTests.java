@@ -0,0 +1,166 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.commons.util;
+
+import static java.util.Collections.singletonList;
+import static org.junit.gen5.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.gen5.api.AfterEach;
+import org.junit.gen5.api.BeforeEach;
+import org.junit.gen5.api.Test;
+import org.junit.gen5.commons.util.ClassFileReferenceChecker.ClassFileSummary;
+import org.junit.gen5.commons.util.ClassFileReferenceChecker.SummaryReader;
+
+class ClassFileIndexTests {
+
+	private static final ClassFileReferenceFilter FILTER = ClassFileReferenceFilter.referencing("org/junit/");
+
+	private final AtomicInteger reads = new AtomicInteger();
+
+	private final SummaryReader reader = in -> {
+		reads.incrementAndGet();
+		return new ClassFileSummary(false, singletonList("com/example/Base"));
+	};
+
+	private Path classpathRoot;
+
+	private Path classFile;
+
+	private Path indexDirectory;
+
+	private String originalIndexDirectoryProperty;
+
+	@BeforeEach
+	void createClasspathRootAndIndexDirectory() throws IOException {
+		classpathRoot = Files.createTempDirectory("classpath-root");
+		Files.createDirectories(classpathRoot.resolve("com/example"));
+		classFile = Files.write(classpathRoot.resolve("com/example/Foo.class"), new byte[] { 1, 2, 3 });
+		indexDirectory = Files.createTempDirectory("index");
+		originalIndexDirectoryProperty = System.getProperty(ClassFileIndex.INDEX_DIRECTORY_PROPERTY);
+		System.setProperty(ClassFileIndex.INDEX_DIRECTORY_PROPERTY, indexDirectory.toString());
+	}
+
+	@AfterEach
+	void restoreIndexDirectoryAndDeleteTemporaryDirectories() throws IOException {
+		if (originalIndexDirectoryProperty == null) {
+			System.clearProperty(ClassFileIndex.INDEX_DIRECTORY_PROPERTY);
+		}
+		else {
+			System.setProperty(ClassFileIndex.INDEX_DIRECTORY_PROPERTY, originalIndexDirectoryProperty);
+		}
+		deleteRecursively(classpathRoot);
+		deleteRecursively(indexDirectory);
+	}
+
+	@Test
+	void indexIsDisabledWithoutIndexDirectory() {
+		System.clearProperty(ClassFileIndex.INDEX_DIRECTORY_PROPERTY);
+
+		assertFalse(ClassFileIndex.forClasspathRoot(classpathRoot, FILTER).isPresent());
+	}
+
+	@Test
+	void unchangedClassFileIsOnlyReadOnce() throws IOException {
+		ClassFileIndex index = ClassFileIndex.forClasspathRoot(classpathRoot, FILTER).get();
+
+		ClassFileSummary summary = index.summarize("com/example/Foo", reader).get();
+		index.summarize("com/example/Foo", reader);
+
+		assertEquals(1, reads.get());
+		assertFalse(summary.matchesFilter());
+		assertEquals(singletonList("com/example/Base"), summary.getTypeReferences());
+	}
+
+	@Test
+	void classFilesOutsideOfClasspathRootAreNotIndexed() throws IOException {
+		ClassFileIndex index = ClassFileIndex.forClasspathRoot(classpathRoot, FILTER).get();
+
+		assertFalse(index.summarize("com/example/Bar", reader).isPresent());
+		assertEquals(0, reads.get());
+	}
+
+	@Test
+	void savedIndexIsUsedBySubsequentScans() throws IOException {
+		ClassFileIndex index = ClassFileIndex.forClasspathRoot(classpathRoot, FILTER).get();
+		index.summarize("com/example/Foo", reader);
+		index.saveIfModified();
+
+		ClassFileSummary summary = ClassFileIndex.forClasspathRoot(classpathRoot, FILTER).get().summarize(
+			"com/example/Foo", reader).get();
+
+		assertEquals(1, reads.get());
+		assertEquals(singletonList("com/example/Base"), summary.getTypeReferences());
+	}
+
+	@Test
+	void classFileWithNewTimestampButSameContentIsNotReadAgain() throws IOException {
+		ClassFileIndex index = ClassFileIndex.forClasspathRoot(classpathRoot, FILTER).get();
+		index.summarize("com/example/Foo", reader);
+		index.saveIfModified();
+
+		Files.setLastModifiedTime(classFile, FileTime.fromMillis(Files.getLastModifiedTime(classFile).toMillis()
+				+ 10_000));
+		ClassFileIndex.forClasspathRoot(classpathRoot, FILTER).get().summarize("com/example/Foo", reader);
+
+		assertEquals(1, reads.get());
+	}
+
+	@Test
+	void changedClassFileIsReadAgain() throws IOException {
+		ClassFileIndex index = ClassFileIndex.forClasspathRoot(classpathRoot, FILTER).get();
+		index.summarize("com/example/Foo", reader);
+		index.saveIfModified();
+
+		Files.write(classFile, new byte[] { 1, 2, 3, 4 });
+		ClassFileIndex.forClasspathRoot(classpathRoot, FILTER).get().summarize("com/example/Foo", reader);
+
+		assertEquals(2, reads.get());
+	}
+
+	@Test
+	void indexWrittenForDifferentFilterIsDiscarded() throws IOException {
+		ClassFileIndex index = ClassFileIndex.forClasspathRoot(classpathRoot, FILTER).get();
+		index.summarize("com/example/Foo", reader);
+		index.saveIfModified();
+
+		ClassFileIndex.forClasspathRoot(classpathRoot, ClassFileReferenceFilter.referencing("junit/")).get().summarize(
+			"com/example/Foo", reader);
+
+		assertEquals(2, reads.get());
+	}
+
+	private static void deleteRecursively(Path directory) throws IOException {
+		Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
+				Files.delete(file);
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult postVisitDirectory(Path dir, IOException exception) throws IOException {
+				Files.delete(dir);
+				return FileVisitResult.CONTINUE;
+			}
+		});
+	}
+
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.commons.util;
+
+import static org.junit.gen5.api.Assertions.assertEquals;
+import static org.junit.gen5.api.Assertions.assertFalse;
+import static org.junit.gen5.api.Assertions.assertTrue;
+
+import java.io.InputStream;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.gen5.api.Nested;
+import org.junit.gen5.api.Test;
+
+class ClassFileReferenceCheckerTests {
+
+	private final ClassFileReferenceChecker checker = new ClassFileReferenceChecker(
+		ClassFileReferenceFilter.referencing("org/junit/gen5/api/Test"), getClass().getClassLoader());
+
+	@Test
+	void classReferencingFragmentIsAccepted() {
+		assertTrue(checker.accept(ClassWithTestMethod.class.getName()));
+	}
+
+	@Test
+	void classWithoutReferenceToFragmentIsRejected() {
+		assertFalse(checker.accept(ClassWithoutTestMethod.class.getName()));
+	}
+
+	@Test
+	void subclassOfClassReferencingFragmentIsAccepted() {
+		assertTrue(checker.accept(SubclassOfClassWithTestMethod.class.getName()));
+	}
+
+	@Test
+	void classUsingComposedAnnotationIsAccepted() {
+		assertTrue(checker.accept(ClassWithComposedTestAnnotation.class.getName()));
+	}
+
+	@Test
+	void classWithOnlyNestedTestsIsAccepted() {
+		assertTrue(checker.accept(ClassWithOnlyNestedTests.class.getName()));
+	}
+
+	@Test
+	void classReferencingCyclicAnnotationsIsAcceptedOnceCycleIsResolved() {
+		assertTrue(checker.accept(ClassUsingFirstCyclicAnnotation.class.getName()));
+		assertTrue(checker.accept(ClassUsingSecondCyclicAnnotation.class.getName()));
+	}
+
+	@Test
+	void rejectedSuperclassIsOnlyReadOnce() {
+		List<String> readResources = new CopyOnWriteArrayList<>();
+		ClassLoader classLoader = new ClassLoader(getClass().getClassLoader()) {
+
+			@Override
+			public InputStream getResourceAsStream(String name) {
+				readResources.add(name);
+				return super.getResourceAsStream(name);
+			}
+		};
+		ClassFileReferenceChecker countingChecker = new ClassFileReferenceChecker(
+			ClassFileReferenceFilter.referencing("org/junit/gen5/api/Test"), classLoader);
+
+		assertFalse(countingChecker.accept(FirstSubclassOfClassWithoutTestMethod.class.getName()));
+		assertFalse(countingChecker.accept(SecondSubclassOfClassWithoutTestMethod.class.getName()));
+
+		String superclassFile = ClassWithoutTestMethod.class.getName().replace('.', '/') + ".class";
+		assertEquals(1L, readResources.stream().filter(superclassFile::equals).count());
+	}
+
+	@Test
+	void classWhoseClassFileCannotBeFoundIsAccepted() {
+		assertTrue(checker.accept("org.example.DoesNotExist"));
+	}
+
+	@Test
+	void anyClassFileFilterAcceptsAllClasses() {
+		ClassFileReferenceChecker anyClassFileChecker = new ClassFileReferenceChecker(
+			ClassFileReferenceFilter.anyClassFile(), getClass().getClassLoader());
+
+		assertTrue(anyClassFileChecker.accept(ClassWithoutTestMethod.class.getName()));
+	}
+
+	@Test
+	void scannerDoesNotLoadRejectedClasses() throws Exception {
+		ClasspathScanner scanner = new ClasspathScanner(ReflectionUtils::getDefaultClassLoader, (name, loader) -> {
+			assertFalse(name.equals(ClassWithoutTestMethod.class.getName()), "Rejected class must not be loaded");
+			return ReflectionUtils.loadClass(name, loader);
+		});
+
+		scanner.scanForClassesInPackage("org.junit.gen5.commons.util",
+			ClassFileReferenceFilter.referencing("org/junit/gen5/api/Test"), clazz -> true);
+	}
+
+	@Test
+	void scannerFindsClassWithOnlyNestedTests() throws Exception {
+		ClasspathScanner scanner = new ClasspathScanner(ReflectionUtils::getDefaultClassLoader,
+			ReflectionUtils::loadClass);
+
+		List<Class<?>> classes = scanner.scanForClassesInPackage("org.junit.gen5.commons.util",
+			ClassFileReferenceFilter.referencing("org/junit/gen5/api/Test"), clazz -> true);
+
+		assertTrue(classes.contains(ClassWithOnlyNestedTests.class));
+		assertFalse(classes.contains(ClassWithoutTestMethod.class));
+	}
+
+	static class ClassWithTestMethod {
+
+		@Test
+		void test() {
+		}
+	}
+
+	static class ClassWithoutTestMethod {
+
+		void notATest() {
+		}
+	}
+
+	static class SubclassOfClassWithTestMethod extends ClassWithTestMethod {
+	}
+
+	static class FirstSubclassOfClassWithoutTestMethod extends ClassWithoutTestMethod {
+	}
+
+	static class SecondSubclassOfClassWithoutTestMethod extends ClassWithoutTestMethod {
+	}
+
+	static class ClassWithOnlyNestedTests {
+
+		@Nested
+		class Inner {
+
+			@Test
+			void test() {
+			}
+		}
+	}
+
+	@Target(ElementType.METHOD)
+	@Retention(RetentionPolicy.RUNTIME)
+	@Test
+	@interface ComposedTest {
+	}
+
+	static class ClassWithComposedTestAnnotation {
+
+		@ComposedTest
+		void test() {
+		}
+	}
+
+	@Target(ElementType.ANNOTATION_TYPE)
+	@Retention(RetentionPolicy.RUNTIME)
+	@Test
+	@interface TestMetaAnnotation {
+	}
+
+	@Target({ ElementType.ANNOTATION_TYPE, ElementType.METHOD })
+	@Retention(RetentionPolicy.RUNTIME)
+	@SecondCyclicAnnotation
+	@TestMetaAnnotation
+	@interface FirstCyclicAnnotation {
+	}
+
+	@Target({ ElementType.ANNOTATION_TYPE, ElementType.METHOD })
+	@Retention(RetentionPolicy.RUNTIME)
+	@FirstCyclicAnnotation
+	@interface SecondCyclicAnnotation {
+	}
+
+	static class ClassUsingFirstCyclicAnnotation {
+
+		@FirstCyclicAnnotation
+		void test() {
+		}
+	}
+
+	static class ClassUsingSecondCyclicAnnotation {
+
+		@SecondCyclicAnnotation
+		void test() {
+		}
+	}
+
+}
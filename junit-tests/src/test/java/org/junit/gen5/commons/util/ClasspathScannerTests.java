@@ -14,9 +14,17 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.gen5.api.Assertions.*;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Predicate;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
 
 import org.junit.gen5.api.BeforeEach;
 import org.junit.gen5.api.Test;
@@ -45,6 +53,22 @@ public class ClasspathScannerTests {
 		assertSame(ClasspathScannerTests.class, classes.get(0));
 	}
 
+	@Test
+	public void classesRejectedByClassNameFilterAreNotLoaded() throws Exception {
+		List<String> loadedClassNames = new CopyOnWriteArrayList<>();
+		ClasspathScanner scanner = new ClasspathScanner(ReflectionUtils::getDefaultClassLoader,
+			(className, classLoader) -> {
+				loadedClassNames.add(className);
+				return ReflectionUtils.loadClass(className, classLoader);
+			});
+
+		List<Class<?>> classes = scanner.scanForClassesInPackage("org.junit.gen5.commons",
+			className -> className.endsWith("ScannerTests"), ClassFileReferenceFilter.anyClassFile(), clazz -> true);
+
+		assertThat(classes).containsExactly(ClasspathScannerTests.class);
+		assertThat(loadedClassNames).containsExactly(ClasspathScannerTests.class.getName());
+	}
+
 	@Test
 	public void isPackage() throws Exception {
 		assertTrue(classpathScanner.isPackage("org.junit.gen5.commons"));
@@ -68,6 +92,63 @@ public class ClasspathScannerTests {
 		assertTrue(classes.contains(ClasspathScannerTests.class));
 	}
 
+	@Test
+	public void findAllClassesInClasspathRootIncludesClassesInAllSubpackages() throws Exception {
+		File root = getTestClasspathRoot();
+		List<Class<?>> classes = classpathScanner.scanForClassesInClasspathRoot(root, clazz -> true);
+
+		assertThat(classes).contains(ClasspathScannerTests.class, NestedClassToBeFound.class,
+			MemberClassToBeFound.class, org.junit.gen5.engine.junit5.DiscoveryTests.class);
+		assertThat(classes).doesNotHaveDuplicates();
+	}
+
+	@Test
+	public void findAllClassesInJarFile() throws Exception {
+		File jarFile = createJarFileWithClassesOfThisTest();
+		List<Class<?>> classes = classpathScanner.scanForClassesInClasspathRoot(jarFile, clazz -> true);
+
+		assertThat(classes).containsOnly(ClasspathScannerTests.class, NestedClassToBeFound.class,
+			MemberClassToBeFound.class);
+	}
+
+	@Test
+	public void findAllClassesInPackageLocatedInJarFile() throws Exception {
+		File jarFile = createJarFileWithClassesOfThisTest();
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { jarFile.toURI().toURL() }, null)) {
+			ClasspathScanner scanner = new ClasspathScanner(() -> classLoader, ReflectionUtils::loadClass);
+
+			List<Class<?>> classes = scanner.scanForClassesInPackage("org.junit.gen5.commons", clazz -> true);
+
+			assertThat(classes).extracting(Class::getName).containsOnly(ClasspathScannerTests.class.getName(),
+				NestedClassToBeFound.class.getName(), MemberClassToBeFound.class.getName());
+			classes.forEach(clazz -> assertSame(classLoader, clazz.getClassLoader()));
+		}
+	}
+
+	private File createJarFileWithClassesOfThisTest() throws Exception {
+		File jarFile = File.createTempFile("classpath-scanner", ".jar");
+		jarFile.deleteOnExit();
+		Path classesDirectory = getTestClasspathRoot().toPath();
+		try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jarFile))) {
+			out.putNextEntry(new JarEntry("META-INF/versions/9/org/junit/gen5/commons/util/Ignored.class"));
+			out.closeEntry();
+			for (String directory : Arrays.asList("org/", "org/junit/", "org/junit/gen5/", "org/junit/gen5/commons/",
+				"org/junit/gen5/commons/util/")) {
+				out.putNextEntry(new JarEntry(directory));
+				out.closeEntry();
+			}
+			for (Class<?> clazz : Arrays.asList(ClasspathScannerTests.class, NestedClassToBeFound.class,
+				MemberClassToBeFound.class)) {
+				String entryName = clazz.getName().replace('.', '/') + ".class";
+				out.putNextEntry(new JarEntry(entryName));
+				Files.copy(classesDirectory.resolve(entryName), out);
+				out.closeEntry();
+			}
+			out.setComment("archive comment preceding the end of the central directory");
+		}
+		return jarFile;
+	}
+
 	private File getTestClasspathRoot() throws Exception {
 		URL location = getClass().getProtectionDomain().getCodeSource().getLocation();
 		return new File(location.toURI());
@@ -11,9 +11,14 @@
 package org.junit.gen5.commons.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.gen5.api.Assertions.assertEquals;
 import static org.junit.gen5.api.Assertions.assertThrows;
 import static org.junit.gen5.api.Assertions.assertTrue;
+import static org.junit.gen5.api.Assertions.expectThrows;
 
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
 import java.util.Set;
 
 import org.junit.gen5.api.Test;
@@ -48,6 +53,22 @@ public class ReflectionUtilsTests {
 
 	}
 
+	static class D {
+
+		private String concat(String prefix, int count) {
+			return prefix + count;
+		}
+
+		private static String greet() {
+			return "hello";
+		}
+
+		void fail() throws Exception {
+			throw new IOException("checked");
+		}
+
+	}
+
 	@Test
 	void getAllAssignmentCompatibleClasses() {
 		Set<Class<?>> superclasses = ReflectionUtils.getAllAssignmentCompatibleClasses(B.class);
@@ -70,4 +91,53 @@ public class ReflectionUtilsTests {
 		});
 	}
 
+	@Test
+	void newInstanceWithResolvedConstructor() throws Exception {
+		Constructor<C> constructor = C.class.getDeclaredConstructor(String.class, String.class);
+
+		assertThat(ReflectionUtils.newInstance(constructor, "one", "two")).isNotNull();
+		assertThat(ReflectionUtils.newInstance(constructor, "three", "four")).isNotNull();
+
+		assertThrows(PreconditionViolationException.class,
+			() -> ReflectionUtils.newInstance((Constructor<C>) null));
+		assertThrows(IllegalArgumentException.class, () -> ReflectionUtils.newInstance(constructor, "one"));
+	}
+
+	@Test
+	void invokeMethod() throws Exception {
+		D target = new D();
+		Method concat = D.class.getDeclaredMethod("concat", String.class, int.class);
+		Method greet = D.class.getDeclaredMethod("greet");
+
+		assertEquals("a1", ReflectionUtils.invokeMethod(concat, target, "a", 1));
+		assertEquals("b2", ReflectionUtils.invokeMethod(concat, target, "b", 2));
+		assertEquals("c3", ReflectionUtils.invokeMethod(concat, target, "c", (short) 3));
+		assertEquals("hello", ReflectionUtils.invokeMethod(greet, null));
+		assertEquals("hello", ReflectionUtils.invokeMethod(greet, target));
+	}
+
+	@Test
+	void invokeMethodRethrowsExceptionThrownByMethod() throws Exception {
+		Method fail = D.class.getDeclaredMethod("fail");
+
+		IOException exception = expectThrows(IOException.class, () -> ReflectionUtils.invokeMethod(fail, new D()));
+		assertEquals("checked", exception.getMessage());
+	}
+
+	@Test
+	void invokeMethodWithWrongNumberOfArguments() throws Exception {
+		Method concat = D.class.getDeclaredMethod("concat", String.class, int.class);
+
+		assertThrows(IllegalArgumentException.class, () -> ReflectionUtils.invokeMethod(concat, new D(), "a"));
+	}
+
+	@Test
+	void invokeMethodWithWrongArgumentTypes() throws Exception {
+		Method concat = D.class.getDeclaredMethod("concat", String.class, int.class);
+
+		assertThrows(IllegalArgumentException.class, () -> ReflectionUtils.invokeMethod(concat, new D(), 1, "a"));
+		assertThrows(IllegalArgumentException.class, () -> ReflectionUtils.invokeMethod(concat, new D(), "a", null));
+		assertThrows(IllegalArgumentException.class, () -> ReflectionUtils.invokeMethod(concat, "D", "a", 1));
+	}
+
 }
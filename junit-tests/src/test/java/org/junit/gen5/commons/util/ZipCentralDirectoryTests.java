@@ -0,0 +1,121 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.commons.util;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.gen5.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.gen5.api.AfterEach;
+import org.junit.gen5.api.BeforeEach;
+import org.junit.gen5.api.Test;
+
+class ZipCentralDirectoryTests {
+
+	private static final byte[] PREFIX = "#!/bin/sh\nexec java -jar \"$0\"\n".getBytes(StandardCharsets.US_ASCII);
+
+	private Path archive;
+
+	@BeforeEach
+	void createArchiveFile() throws IOException {
+		archive = Files.createTempFile("zip-central-directory", ".zip");
+	}
+
+	@AfterEach
+	void deleteArchiveFile() throws IOException {
+		Files.delete(archive);
+	}
+
+	@Test
+	void readsEntryNamesOfArchiveWithPrependedData() throws IOException {
+		Files.write(archive, concat(PREFIX, zip("a/One.class", "b/Two.class")));
+
+		assertEquals(asList("a/One.class", "b/Two.class"), entryNames());
+	}
+
+	@Test
+	void readsEntryNamesOfZip64ArchiveWithPrependedData() throws IOException {
+		Files.write(archive, concat(PREFIX, toZip64(zip("a/One.class", "b/Two.class"))));
+
+		assertEquals(asList("a/One.class", "b/Two.class"), entryNames());
+	}
+
+	@Test
+	void entryNameExceedingCentralDirectoryIsReportedAsCorrupt() throws IOException {
+		byte[] zip = zip("a/One.class");
+		ByteBuffer buffer = ByteBuffer.wrap(zip).order(ByteOrder.LITTLE_ENDIAN);
+		int end = zip.length - 22;
+		buffer.putShort(buffer.getInt(end + 16) + 28, (short) 0x7FFF);
+		Files.write(archive, zip);
+
+		UncheckedIOException exception = expectThrows(UncheckedIOException.class, this::entryNames);
+		assertEquals("Corrupt central directory", exception.getCause().getMessage());
+	}
+
+	private List<String> entryNames() throws IOException {
+		return ZipCentralDirectory.read(archive).entryNames().collect(toList());
+	}
+
+	private static byte[] zip(String... entryNames) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ZipOutputStream out = new ZipOutputStream(bytes)) {
+			for (String entryName : entryNames) {
+				out.putNextEntry(new ZipEntry(entryName));
+				out.closeEntry();
+			}
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Replace the end of central directory record of the supplied archive,
+	 * which must not have a comment, with its ZIP64 variant.
+	 */
+	private static byte[] toZip64(byte[] zip) {
+		ByteBuffer in = ByteBuffer.wrap(zip).order(ByteOrder.LITTLE_ENDIAN);
+		int end = zip.length - 22;
+		short entries = in.getShort(end + 10);
+		long size = Integer.toUnsignedLong(in.getInt(end + 12));
+		long offset = Integer.toUnsignedLong(in.getInt(end + 16));
+
+		ByteBuffer out = ByteBuffer.allocate(end + 56 + 20 + 22).order(ByteOrder.LITTLE_ENDIAN);
+		out.put(zip, 0, end);
+		// ZIP64 end of central directory record
+		out.putInt(0x06064b50).putLong(44).putShort((short) 45).putShort((short) 45).putInt(0).putInt(0);
+		out.putLong(entries).putLong(entries).putLong(size).putLong(offset);
+		// ZIP64 end of central directory locator
+		out.putInt(0x07064b50).putInt(0).putLong(end).putInt(1);
+		// end of central directory record
+		out.putInt(0x06054b50).putShort((short) 0).putShort((short) 0).putShort(entries).putShort(entries);
+		out.putInt(0xFFFFFFFF).putInt(0xFFFFFFFF).putShort((short) 0);
+		return out.array();
+	}
+
+	private static byte[] concat(byte[] first, byte[] second) {
+		byte[] result = new byte[first.length + second.length];
+		System.arraycopy(first, 0, result, 0, first.length);
+		System.arraycopy(second, 0, result, first.length, second.length);
+		return result;
+	}
+
+}
@@ -40,6 +40,7 @@ public class JOptSimpleCommandLineOptionsParserTests {
 			() -> assertFalse(options.isRunAllTests()),
 			() -> assertEquals(Optional.empty(), options.getClassnameFilter()),
 			() -> assertEquals(emptyList(), options.getTagsFilter()),
+			() -> assertEquals(Optional.empty(), options.getTagExpression()),
 			() -> assertEquals(emptyList(), options.getAdditionalClasspathEntries()),
 			() -> assertEquals(emptyList(), options.getArguments())
 		);
@@ -92,6 +93,22 @@ public class JOptSimpleCommandLineOptionsParserTests {
 		assertOptionWithRequiredArgumentThrowsExceptionWithoutArgument("-t", "--filter-tags");
 	}
 
+	@Test
+	public void parseValidTagExpression() {
+		// @formatter:off
+		assertAll(
+			() -> assertEquals(Optional.of("fast"), parseArgLine("-e fast").getTagExpression()),
+			() -> assertEquals(Optional.of("fast&!slow"), parseArgLine("--tag-expression fast&!slow").getTagExpression()),
+			() -> assertEquals(Optional.of("fast"), parseArgLine("--tag-expression=fast").getTagExpression())
+		);
+		// @formatter:on
+	}
+
+	@Test
+	public void parseInvalidTagExpression() {
+		assertOptionWithRequiredArgumentThrowsExceptionWithoutArgument("-e", "--tag-expression");
+	}
+
 	@Test
 	public void parseValidAdditionalClasspathEntries() {
 		// @formatter:off
@@ -111,6 +111,18 @@ public class TestPlanSpecificationCreatorTests {
 		assertFalse(specification.acceptDescriptor(testDescriptorWithTag("very slow")));
 	}
 
+	@Test
+	public void convertsTagExpressionOption() {
+		options.setRunAllTests(true);
+		options.setTagExpression("fast or not slow");
+
+		TestPlanSpecification specification = convert();
+
+		assertTrue(specification.acceptDescriptor(testDescriptorWithTag("fast")));
+		assertTrue(specification.acceptDescriptor(testDescriptorWithTag("medium")));
+		assertFalse(specification.acceptDescriptor(testDescriptorWithTag("slow")));
+	}
+
 	private void convertAndVisit() {
 		TestPlanSpecification specification = convert();
 		specification.accept(visitor);
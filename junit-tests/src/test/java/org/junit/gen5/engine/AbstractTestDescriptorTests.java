@@ -13,6 +13,7 @@ package org.junit.gen5.engine;
 import static org.junit.gen5.api.Assertions.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -99,6 +100,59 @@ public class AbstractTestDescriptorTests {
 		assertFalse(visited.contains("group1"));
 	}
 
+	@Test
+	public void countStaticTestsReflectsAddedAndRemovedChildren() {
+		TestDescriptor group11 = engineDescriptor.findByUniqueId("group1-1").get();
+		assertEquals(4L, engineDescriptor.countStaticTests());
+
+		group11.addChild(new LeafDescriptor("leaf11-2"));
+		assertEquals(5L, engineDescriptor.countStaticTests());
+		assertEquals(2L, group11.countStaticTests());
+
+		engineDescriptor.accept((descriptor, delete) -> {
+			if (descriptor.getUniqueId().equals("group1"))
+				delete.run();
+		});
+		assertEquals(1L, engineDescriptor.countStaticTests());
+	}
+
+	@Test
+	public void hasTestsReflectsRemovedChildren() {
+		GroupDescriptor group2 = (GroupDescriptor) engineDescriptor.findByUniqueId("group2").get();
+		assertTrue(group2.hasTests());
+
+		group2.removeChild(engineDescriptor.findByUniqueId("leaf2-1").get());
+		assertFalse(group2.hasTests());
+		assertTrue(engineDescriptor.hasTests());
+	}
+
+	@Test
+	public void allDescendantsListsChildrenBeforeTheirDescendants() {
+		List<String> uniqueIds = new ArrayList<>();
+		engineDescriptor.allDescendants().forEach(descriptor -> uniqueIds.add(descriptor.getUniqueId()));
+
+		assertEquals(Arrays.asList("group1", "group2", "group1-1", "leaf1-1", "leaf1-2", "leaf11-1", "leaf2-1"),
+			uniqueIds);
+	}
+
+	@Test
+	public void findByUniqueIdUsesIndexOfEngineDescriptor() {
+		TestDescriptor group1 = engineDescriptor.findByUniqueId("group1").get();
+		GroupDescriptor group3 = new GroupDescriptor("group3");
+		group3.addChild(new LeafDescriptor("leaf3-1"));
+		group1.addChild(group3);
+
+		assertSame(group3, engineDescriptor.findByUniqueId("group3").get());
+		assertEquals("leaf3-1", group1.findByUniqueId("leaf3-1").get().getUniqueId());
+		assertFalse(group1.findByUniqueId("leaf2-1").isPresent(), "Only descendants are found");
+
+		group1.removeChild(group3);
+
+		assertFalse(engineDescriptor.findByUniqueId("group3").isPresent());
+		assertFalse(engineDescriptor.findByUniqueId("leaf3-1").isPresent());
+		assertTrue(group3.findByUniqueId("leaf3-1").isPresent(), "Detached subtrees are still searchable");
+	}
+
 }
 
 class GroupDescriptor extends AbstractTestDescriptor {
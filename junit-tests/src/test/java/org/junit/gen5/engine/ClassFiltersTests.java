@@ -28,6 +28,8 @@ class ClassFiltersTests {
 		assertEquals("Filter class names with regular expression: " + regex, filter.getDescription());
 		assertTrue(filter.acceptClass(String.class));
 		assertFalse(filter.acceptClass(Collection.class));
+		assertTrue(filter.acceptClassName("java.lang.String"));
+		assertFalse(filter.acceptClassName("java.util.Collection"));
 	}
 
 	@Test
@@ -68,6 +70,15 @@ class ClassFiltersTests {
 
 		assertFalse(filter.acceptClass(String.class));
 		assertTrue(filter.acceptClass(StringJoiner.class));
+		assertFalse(filter.acceptClassName("java.lang.String"));
+		assertTrue(filter.acceptClassName("java.util.StringJoiner"));
+	}
+
+	@Test
+	void predicateBasedFiltersAcceptAllClassNames() {
+		ClassFilter filter = new PredicateBasedClassFilter(o -> false, () -> "none");
+
+		assertTrue(filter.acceptClassName("java.lang.String"));
 	}
 
 	@Test
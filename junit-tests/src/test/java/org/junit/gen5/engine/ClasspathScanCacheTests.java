@@ -0,0 +1,68 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.net.URL;
+import java.util.List;
+
+import org.junit.gen5.api.Test;
+import org.junit.gen5.commons.util.ClassFileReferenceFilter;
+
+class ClasspathScanCacheTests {
+
+	private final ClasspathScanCache cache = new ClasspathScanCache();
+
+	@Test
+	void findAllClassesInPackageAppliesClassTesterToCachedScan() {
+		List<Class<?>> first = cache.findAllClassesInPackage("org.junit.gen5.engine",
+			clazz -> clazz == ClasspathScanCacheTests.class);
+		List<Class<?>> second = cache.findAllClassesInPackage("org.junit.gen5.engine",
+			clazz -> clazz == DummyTestEngine.class);
+
+		assertThat(first).containsExactly(ClasspathScanCacheTests.class);
+		assertThat(second).containsExactly(DummyTestEngine.class);
+	}
+
+	@Test
+	void findAllClassesInClasspathRootAppliesClassTesterToCachedScan() throws Exception {
+		File root = getTestClasspathRoot();
+
+		List<Class<?>> all = cache.findAllClassesInClasspathRoot(root, clazz -> true);
+		List<Class<?>> filtered = cache.findAllClassesInClasspathRoot(root,
+			clazz -> clazz.getPackage().getName().equals("org.junit.gen5.engine"));
+
+		assertThat(all).contains(ClasspathScanCacheTests.class, DummyTestEngine.class);
+		assertThat(filtered).contains(ClasspathScanCacheTests.class).isSubsetOf(all);
+		assertThat(filtered.size()).isLessThan(all.size());
+	}
+
+	@Test
+	void findAllClassesInPackageSkipsClassNamesRejectedByClassFilter() {
+		ClassFilter classFilter = ClassFilters.classNameMatches(".*CacheTests");
+
+		List<Class<?>> classes = cache.findAllClassesInPackage("org.junit.gen5.engine", classFilter,
+			ClassFileReferenceFilter.anyClassFile(), clazz -> true);
+		List<Class<?>> unfiltered = cache.findAllClassesInPackage("org.junit.gen5.engine",
+			ClassFileReferenceFilter.anyClassFile(), clazz -> true);
+
+		assertThat(classes).containsExactly(ClasspathScanCacheTests.class);
+		assertThat(unfiltered).contains(ClasspathScanCacheTests.class, DummyTestEngine.class);
+	}
+
+	private File getTestClasspathRoot() throws Exception {
+		URL location = getClass().getProtectionDomain().getCodeSource().getLocation();
+		return new File(location.toURI());
+	}
+
+}
@@ -10,6 +10,7 @@
 
 package org.junit.gen5.engine;
 
+import static org.junit.gen5.api.Assertions.assertEquals;
 import static org.junit.gen5.api.Assertions.assertSame;
 import static org.junit.gen5.api.Assertions.assertTrue;
 import static org.junit.gen5.api.Assertions.expectThrows;
@@ -22,8 +23,18 @@ import static org.mockito.Mockito.stub;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 import org.junit.gen5.api.BeforeEach;
 import org.junit.gen5.api.Test;
+import org.junit.gen5.commons.JUnitException;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
@@ -345,6 +356,90 @@ public class HierarchicalTestExecutorTests {
 		assertSame(outOfMemoryError, actualException);
 	}
 
+	@Test
+	public void siblingsAreExecutedConcurrentlyInParallelMode() throws Exception {
+
+		CountDownLatch latch = new CountDownLatch(2);
+		Set<String> threadNames = ConcurrentHashMap.newKeySet();
+		for (int i = 1; i <= 2; i++) {
+			root.addChild(new MyLeaf("leaf" + i) {
+
+				@Override
+				public MyEngineExecutionContext execute(MyEngineExecutionContext context) throws Exception {
+					threadNames.add(Thread.currentThread().getName());
+					latch.countDown();
+					assertTrue(latch.await(10, TimeUnit.SECONDS), "Siblings should run concurrently.");
+					return context;
+				}
+			});
+		}
+		RecordingListener recordingListener = new RecordingListener();
+
+		parallelExecutor(root, recordingListener, 2).execute();
+
+		assertEquals(2, threadNames.size());
+		assertEquals("started:root", recordingListener.events.get(0));
+		assertEquals("finished:root:SUCCESSFUL", recordingListener.events.get(5));
+		assertTrue(recordingListener.events.indexOf("started:leaf1") < recordingListener.events.indexOf(
+			"finished:leaf1:SUCCESSFUL"));
+		assertTrue(recordingListener.events.indexOf("started:leaf2") < recordingListener.events.indexOf(
+			"finished:leaf2:SUCCESSFUL"));
+	}
+
+	@Test
+	public void containerIsSetUpBeforeAndTornDownAfterAllChildrenInParallelMode() throws Exception {
+
+		List<String> calls = Collections.synchronizedList(new ArrayList<>());
+		MyContainer container = new MyContainer("container") {
+
+			@Override
+			public MyEngineExecutionContext beforeAll(MyEngineExecutionContext context) throws Exception {
+				calls.add("beforeAll");
+				return context;
+			}
+
+			@Override
+			public MyEngineExecutionContext afterAll(MyEngineExecutionContext context) throws Exception {
+				calls.add("afterAll");
+				return context;
+			}
+		};
+		for (int i = 1; i <= 10; i++) {
+			container.addChild(new MyLeaf("leaf" + i) {
+
+				@Override
+				public MyEngineExecutionContext execute(MyEngineExecutionContext context) throws Exception {
+					calls.add("execute");
+					return context;
+				}
+			});
+		}
+		root.addChild(container);
+
+		parallelExecutor(root, new RecordingListener(), 4).execute();
+
+		assertEquals(12, calls.size());
+		assertEquals("beforeAll", calls.get(0));
+		assertEquals("afterAll", calls.get(11));
+	}
+
+	@Test
+	public void invalidParallelismIsRejected() throws Exception {
+		ExecutionRequest request = new ExecutionRequest(root, listener);
+		request.getAttributes().put(HierarchicalTestEngine.PARALLEL_EXECUTION_ENABLED, "true");
+		request.getAttributes().put(HierarchicalTestEngine.PARALLELISM, "0");
+
+		expectThrows(JUnitException.class, () -> new MyExecutor(request, rootContext));
+	}
+
+	private HierarchicalTestExecutor<MyEngineExecutionContext> parallelExecutor(TestDescriptor root,
+			EngineExecutionListener listener, int parallelism) {
+		ExecutionRequest request = new ExecutionRequest(root, listener);
+		request.getAttributes().put(HierarchicalTestEngine.PARALLEL_EXECUTION_ENABLED, "true");
+		request.getAttributes().put(HierarchicalTestEngine.PARALLELISM, parallelism);
+		return new MyExecutor(request, rootContext);
+	}
+
 	// -------------------------------------------------------------------
 
 	private static class MyEngineExecutionContext implements EngineExecutionContext {
@@ -410,6 +505,34 @@ public class HierarchicalTestExecutorTests {
 		}
 	}
 
+	private static class RecordingListener implements EngineExecutionListener {
+
+		final List<String> events = new ArrayList<>();
+
+		@Override
+		public void reportingEntryPublished(TestDescriptor testDescriptor, Map<String, String> entry) {
+		}
+
+		@Override
+		public void dynamicTestRegistered(TestDescriptor testDescriptor) {
+		}
+
+		@Override
+		public void executionSkipped(TestDescriptor testDescriptor, String reason) {
+			events.add("skipped:" + testDescriptor.getUniqueId());
+		}
+
+		@Override
+		public void executionStarted(TestDescriptor testDescriptor) {
+			events.add("started:" + testDescriptor.getUniqueId());
+		}
+
+		@Override
+		public void executionFinished(TestDescriptor testDescriptor, TestExecutionResult testExecutionResult) {
+			events.add("finished:" + testDescriptor.getUniqueId() + ":" + testExecutionResult.getStatus());
+		}
+	}
+
 	private static class MyExecutor extends HierarchicalTestExecutor<MyEngineExecutionContext> {
 
 		MyExecutor(ExecutionRequest request, MyEngineExecutionContext rootContext) {
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.engine;
+
+import static java.util.Arrays.asList;
+import static org.junit.gen5.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.junit.gen5.api.Test;
+import org.junit.gen5.commons.util.PreconditionViolationException;
+
+class TagExpressionTests {
+
+	@Test
+	void singleTagMatchesDescriptorsWithThatTag() {
+		TagExpression expression = TagExpression.parse("fast");
+
+		assertTrue(expression.test(descriptorWithTags("fast", "unit")));
+		assertFalse(expression.test(descriptorWithTags("slow")));
+		assertFalse(expression.test(descriptorWithTags()));
+	}
+
+	@Test
+	void notBindsStrongerThanAndWhichBindsStrongerThanOr() {
+		TagExpression expression = TagExpression.parse("fast or unit and not slow");
+
+		assertTrue(expression.test(descriptorWithTags("fast", "slow")));
+		assertTrue(expression.test(descriptorWithTags("unit")));
+		assertFalse(expression.test(descriptorWithTags("unit", "slow")));
+	}
+
+	@Test
+	void parenthesesOverridePrecedence() {
+		TagExpression expression = TagExpression.parse("(fast | unit) & !slow");
+
+		assertTrue(expression.test(descriptorWithTags("unit")));
+		assertFalse(expression.test(descriptorWithTags("fast", "slow")));
+		assertFalse(expression.test(descriptorWithTags("integration")));
+	}
+
+	@Test
+	void symbolsDoNotNeedSurroundingWhitespace() {
+		TagExpression expression = TagExpression.parse("!(slow|integration)");
+
+		assertTrue(expression.test(descriptorWithTags("fast")));
+		assertFalse(expression.test(descriptorWithTags("integration")));
+	}
+
+	@Test
+	void anyOfMatchesDescriptorsWithAtLeastOneTag() {
+		TagExpression expression = TagExpression.anyOf(asList("fast", "very slow"));
+
+		assertTrue(expression.test(descriptorWithTags("very slow")));
+		assertFalse(expression.test(descriptorWithTags("slow")));
+	}
+
+	@Test
+	void noneOfMatchesDescriptorsWithoutAnyTag() {
+		TagExpression expression = TagExpression.noneOf(asList("slow", "integration"));
+
+		assertTrue(expression.test(descriptorWithTags("fast")));
+		assertTrue(expression.test(descriptorWithTags()));
+		assertFalse(expression.test(descriptorWithTags("fast", "integration")));
+	}
+
+	@Test
+	void malformedExpressionsAreRejected() {
+		for (String expression : asList("fast and", "(fast or slow", "fast slow", "or fast", "fast)", " ")) {
+			assertThrows(PreconditionViolationException.class, () -> TagExpression.parse(expression));
+		}
+	}
+
+	private static TestDescriptor descriptorWithTags(String... tagNames) {
+		Set<TestTag> tags = new LinkedHashSet<>();
+		for (String tagName : tagNames) {
+			tags.add(new TestTag(tagName));
+		}
+		TestDescriptor descriptor = mock(TestDescriptor.class);
+		when(descriptor.getTags()).thenReturn(tags);
+		return descriptor;
+	}
+
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.engine.junit5;
+
+import static java.util.Collections.singleton;
+import static org.junit.gen5.api.Assertions.assertEquals;
+import static org.junit.gen5.engine.TestPlanSpecification.build;
+import static org.junit.gen5.engine.TestPlanSpecification.forClass;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.gen5.api.Assertions;
+import org.junit.gen5.api.BeforeEach;
+import org.junit.gen5.api.Execution;
+import org.junit.gen5.api.ExecutionMode;
+import org.junit.gen5.api.Nested;
+import org.junit.gen5.api.ResourceAccessMode;
+import org.junit.gen5.api.ResourceLock;
+import org.junit.gen5.api.Test;
+import org.junit.gen5.engine.ExclusiveResource;
+import org.junit.gen5.engine.ExclusiveResource.LockMode;
+import org.junit.gen5.engine.ExecutionEventRecorder;
+import org.junit.gen5.engine.ExecutionRequest;
+import org.junit.gen5.engine.HierarchicalTestEngine;
+import org.junit.gen5.engine.Node;
+import org.junit.gen5.engine.TestDescriptor;
+import org.junit.gen5.engine.TestPlanSpecification;
+
+/**
+ * Integration tests that verify support for {@link Execution @Execution}
+ * in the {@link JUnit5TestEngine} when tests are executed in parallel.
+ *
+ * @since 5.0
+ */
+public class ParallelExecutionTests extends AbstractJUnit5TestEngineTests {
+
+	@BeforeEach
+	public void resetState() {
+		SameThreadTestCase.threadNames.clear();
+		ConcurrentTestCase.latch = new CountDownLatch(3);
+		ResourceLockTestCase.concurrentAccesses.set(0);
+		ResourceLockTestCase.maxConcurrentAccesses.set(0);
+	}
+
+	@Test
+	public void executionModeIsInheritedFromEnclosingClasses() {
+		TestDescriptor engineDescriptor = discoverTests(build(forClass(SameThreadTestCase.class)));
+
+		engineDescriptor.allDescendants().forEach(descriptor -> {
+			Node.ExecutionMode expected = descriptor.getName().contains("concurrentTest")
+					? Node.ExecutionMode.CONCURRENT : Node.ExecutionMode.SAME_THREAD;
+			assertEquals(expected, ((Node<?>) descriptor).getExecutionMode(), descriptor.getName());
+		});
+	}
+
+	@Test
+	public void testsInSameThreadClassAreExecutedInOneThread() {
+		ExecutionEventRecorder eventRecorder = executeTestsInParallel(build(forClass(SameThreadTestCase.class)));
+
+		assertEquals(5L, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(1, SameThreadTestCase.threadNames.size(), "# threads");
+	}
+
+	@Test
+	public void testsInConcurrentClassAreExecutedConcurrently() {
+		ExecutionEventRecorder eventRecorder = executeTestsInParallel(build(forClass(ConcurrentTestCase.class)));
+
+		assertEquals(3L, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+	}
+
+	@Test
+	public void testsDeclaringTheSameResourceAreNotExecutedConcurrently() {
+		ExecutionEventRecorder eventRecorder = executeTestsInParallel(
+			build(forClass(ResourceLockTestCase.class), forClass(ClassLevelResourceLockTestCase.class)));
+
+		assertEquals(6L, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(1, ResourceLockTestCase.maxConcurrentAccesses.get(), "max # concurrent accesses");
+	}
+
+	@Test
+	public void resourceLocksAreDeclaredAsExclusiveResources() {
+		TestDescriptor engineDescriptor = discoverTests(build(forClass(ResourceLockTestCase.class)));
+
+		engineDescriptor.allDescendants().stream().filter(TestDescriptor::isTest).forEach(descriptor -> {
+			Set<ExclusiveResource> resources = ((Node<?>) descriptor).getExclusiveResources();
+			LockMode expectedLockMode = descriptor.getName().contains("readingTest") ? LockMode.READ
+					: LockMode.READ_WRITE;
+			assertEquals(singleton(new ExclusiveResource("shared", expectedLockMode)), resources);
+		});
+	}
+
+	private ExecutionEventRecorder executeTestsInParallel(TestPlanSpecification spec) {
+		TestDescriptor testDescriptor = discoverTests(spec);
+		ExecutionEventRecorder eventRecorder = new ExecutionEventRecorder();
+		ExecutionRequest request = new ExecutionRequest(testDescriptor, eventRecorder);
+		request.getAttributes().put(HierarchicalTestEngine.PARALLEL_EXECUTION_ENABLED, true);
+		request.getAttributes().put(HierarchicalTestEngine.PARALLELISM, 4);
+		new JUnit5TestEngine().execute(request);
+		return eventRecorder;
+	}
+
+	// -------------------------------------------------------------------
+
+	@Execution(ExecutionMode.SAME_THREAD)
+	private static class SameThreadTestCase {
+
+		static final Set<String> threadNames = ConcurrentHashMap.newKeySet();
+
+		@Test
+		void test1() {
+			threadNames.add(Thread.currentThread().getName());
+		}
+
+		@Test
+		void test2() {
+			threadNames.add(Thread.currentThread().getName());
+		}
+
+		@Test
+		void test3() {
+			threadNames.add(Thread.currentThread().getName());
+		}
+
+		@Test
+		@Execution(ExecutionMode.CONCURRENT)
+		void concurrentTest() {
+		}
+
+		@Nested
+		class NestedTestCase {
+
+			@Test
+			void nestedTest() {
+				threadNames.add(Thread.currentThread().getName());
+			}
+		}
+	}
+
+	private static class ConcurrentTestCase {
+
+		static CountDownLatch latch;
+
+		@Test
+		void test1() throws InterruptedException {
+			awaitSiblings();
+		}
+
+		@Test
+		void test2() throws InterruptedException {
+			awaitSiblings();
+		}
+
+		@Test
+		void test3() throws InterruptedException {
+			awaitSiblings();
+		}
+
+		private void awaitSiblings() throws InterruptedException {
+			latch.countDown();
+			Assertions.assertTrue(latch.await(10, TimeUnit.SECONDS), "Tests should be executed concurrently.");
+		}
+	}
+
+	private static class ResourceLockTestCase {
+
+		static final AtomicInteger concurrentAccesses = new AtomicInteger();
+		static final AtomicInteger maxConcurrentAccesses = new AtomicInteger();
+
+		static void accessSharedResource() throws InterruptedException {
+			int accesses = concurrentAccesses.incrementAndGet();
+			maxConcurrentAccesses.accumulateAndGet(accesses, Math::max);
+			Thread.sleep(20);
+			concurrentAccesses.decrementAndGet();
+		}
+
+		@Test
+		@ResourceLock("shared")
+		void test1() throws InterruptedException {
+			accessSharedResource();
+		}
+
+		@Test
+		@ResourceLock("shared")
+		void test2() throws InterruptedException {
+			accessSharedResource();
+		}
+
+		@Test
+		@ResourceLock("shared")
+		void test3() throws InterruptedException {
+			accessSharedResource();
+		}
+
+		@Test
+		@ResourceLock(value = "shared", mode = ResourceAccessMode.READ)
+		void readingTest() {
+			assertEquals(0, concurrentAccesses.get());
+		}
+	}
+
+	@ResourceLock("shared")
+	private static class ClassLevelResourceLockTestCase {
+
+		@Test
+		void test1() throws InterruptedException {
+			ResourceLockTestCase.accessSharedResource();
+		}
+
+		@Test
+		void test2() throws InterruptedException {
+			ResourceLockTestCase.accessSharedResource();
+		}
+	}
+
+}
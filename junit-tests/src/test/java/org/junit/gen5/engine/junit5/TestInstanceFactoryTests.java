@@ -0,0 +1,136 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.engine.junit5;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.allOf;
+import static org.junit.gen5.api.Assertions.assertEquals;
+import static org.junit.gen5.engine.ExecutionEventConditions.*;
+import static org.junit.gen5.engine.TestExecutionResultConditions.isA;
+import static org.junit.gen5.engine.TestPlanSpecification.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.assertj.core.api.Condition;
+import org.junit.gen5.api.BeforeEach;
+import org.junit.gen5.api.Nested;
+import org.junit.gen5.api.Test;
+import org.junit.gen5.api.extension.ContainerExtensionContext;
+import org.junit.gen5.api.extension.ExtendWith;
+import org.junit.gen5.api.extension.ExtensionConfigurationException;
+import org.junit.gen5.api.extension.TestInstanceFactory;
+import org.junit.gen5.commons.util.ReflectionUtils;
+import org.junit.gen5.engine.ExecutionEventRecorder;
+import org.junit.gen5.engine.TestPlanSpecification;
+
+/**
+ * Integration tests that verify support for {@link TestInstanceFactory}.
+ */
+public class TestInstanceFactoryTests extends AbstractJUnit5TestEngineTests {
+
+	@BeforeEach
+	void resetCallSequence() {
+		callSequence.clear();
+	}
+
+	@Test
+	public void testInstanceFactoryCreatesInstancesOfTopLevelAndNestedClasses() {
+		TestPlanSpecification spec = build(forClass(OuterTestCase.class));
+
+		ExecutionEventRecorder eventRecorder = executeTests(spec);
+
+		assertEquals(2L, eventRecorder.getTestStartedCount(), "# tests started");
+		assertEquals(2L, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+
+		// @formatter:off
+		assertEquals(asList(
+
+			//InnerTestCase
+			"create OuterTestCase", "create InnerTestCase with outer instance", "testInner",
+
+			//OuterTestCase
+			"create OuterTestCase", "testOuter"
+
+		), callSequence, "wrong call sequence");
+		// @formatter:on
+	}
+
+	@Test
+	public void competingTestInstanceFactoriesFailTheContainer() {
+		TestPlanSpecification spec = build(forClass(CompetingFactoriesTestCase.class));
+
+		ExecutionEventRecorder eventRecorder = executeTests(spec);
+
+		assertEquals(0L, eventRecorder.getTestStartedCount(), "# tests started");
+		assertEquals(0, callSequence.size(), "# instances created");
+
+		String expectedMessage = "Discovered multiple competing TestInstanceFactories for test class ["
+				+ CompetingFactoriesTestCase.class.getName() + "]";
+		assertRecordedExecutionEventsContainsExactly(eventRecorder.getExecutionEvents(), //
+			event(engine(), started()), //
+			event(container(CompetingFactoriesTestCase.class), started()), //
+			event(container(CompetingFactoriesTestCase.class),
+				finishedWithFailure(allOf(isA(ExtensionConfigurationException.class), //
+					new Condition<>(throwable -> throwable.getMessage().startsWith(expectedMessage),
+						"message starting with '%s'", expectedMessage)))), //
+			event(engine(), finishedSuccessfully()));
+	}
+
+	// -------------------------------------------------------------------
+
+	private static List<String> callSequence = new ArrayList<>();
+
+	@ExtendWith(RecordingTestInstanceFactory.class)
+	private static class OuterTestCase {
+
+		@Test
+		void testOuter() {
+			callSequence.add("testOuter");
+		}
+
+		@Nested
+		class InnerTestCase {
+
+			@Test
+			void testInner() {
+				callSequence.add("testInner");
+			}
+		}
+
+	}
+
+	@ExtendWith({ RecordingTestInstanceFactory.class, OtherTestInstanceFactory.class })
+	private static class CompetingFactoriesTestCase {
+
+		@Test
+		void test() {
+		}
+	}
+
+	private static class RecordingTestInstanceFactory implements TestInstanceFactory {
+
+		@Override
+		public Object createTestInstance(Class<?> testClass, Optional<Object> outerInstance,
+				ContainerExtensionContext context) {
+
+			String outer = outerInstance.isPresent() ? " with outer instance" : "";
+			callSequence.add("create " + testClass.getSimpleName() + outer);
+			return outerInstance.isPresent() ? ReflectionUtils.newInstance(testClass, outerInstance.get())
+					: ReflectionUtils.newInstance(testClass);
+		}
+	}
+
+	private static class OtherTestInstanceFactory extends RecordingTestInstanceFactory {
+	}
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.engine.junit5.descriptor;
+
+import static org.junit.gen5.api.Assertions.*;
+
+import java.lang.reflect.Method;
+
+import org.junit.gen5.api.Test;
+import org.junit.gen5.engine.DummyTestEngine;
+
+class JUnit5EngineDescriptorTests {
+
+	private final JUnit5EngineDescriptor engineDescriptor = new JUnit5EngineDescriptor(
+		new DummyTestEngine("ENGINE_ID"));
+
+	private final ClassTestDescriptor classDescriptor = new ClassTestDescriptor("ENGINE_ID:TestCase",
+		TestCase.class);
+
+	private final MethodTestDescriptor methodDescriptor = new MethodTestDescriptor("ENGINE_ID:TestCase#test1()",
+		TestCase.class, testMethod());
+
+	@Test
+	void findsEngineDescriptorByItsOwnUniqueId() {
+		assertSame(engineDescriptor, engineDescriptor.findByUniqueId("ENGINE_ID").get());
+	}
+
+	@Test
+	void findsDescriptorsAddedBelowAttachedDescriptors() {
+		engineDescriptor.addChild(classDescriptor);
+		classDescriptor.addChild(methodDescriptor);
+
+		assertSame(classDescriptor, engineDescriptor.findByUniqueId("ENGINE_ID:TestCase").get());
+		assertSame(methodDescriptor, engineDescriptor.findByUniqueId("ENGINE_ID:TestCase#test1()").get());
+	}
+
+	@Test
+	void findsDescendantsOfSubtreesAttachedLater() {
+		classDescriptor.addChild(methodDescriptor);
+		assertFalse(engineDescriptor.findByUniqueId("ENGINE_ID:TestCase#test1()").isPresent());
+
+		engineDescriptor.addChild(classDescriptor);
+
+		assertSame(methodDescriptor, engineDescriptor.findByUniqueId("ENGINE_ID:TestCase#test1()").get());
+	}
+
+	@Test
+	void doesNotFindRemovedDescriptorsAndTheirDescendants() {
+		engineDescriptor.addChild(classDescriptor);
+		classDescriptor.addChild(methodDescriptor);
+
+		engineDescriptor.removeChild(classDescriptor);
+
+		assertFalse(engineDescriptor.findByUniqueId("ENGINE_ID:TestCase").isPresent());
+		assertFalse(engineDescriptor.findByUniqueId("ENGINE_ID:TestCase#test1()").isPresent());
+	}
+
+	@Test
+	void doesNotFindDescriptorsRemovedFromHierarchy() {
+		engineDescriptor.addChild(classDescriptor);
+		classDescriptor.addChild(methodDescriptor);
+
+		engineDescriptor.accept((descriptor, remove) -> {
+			if (descriptor == methodDescriptor) {
+				remove.run();
+			}
+		});
+
+		assertSame(classDescriptor, engineDescriptor.findByUniqueId("ENGINE_ID:TestCase").get());
+		assertFalse(engineDescriptor.findByUniqueId("ENGINE_ID:TestCase#test1()").isPresent());
+	}
+
+	private static Method testMethod() {
+		try {
+			return TestCase.class.getDeclaredMethod("test1");
+		}
+		catch (NoSuchMethodException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private static class TestCase {
+
+		@Test
+		void test1() {
+		}
+	}
+
+}
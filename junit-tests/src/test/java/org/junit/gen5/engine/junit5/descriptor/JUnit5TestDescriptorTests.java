@@ -85,6 +85,30 @@ public class JUnit5TestDescriptorTests {
 		assertThat(descriptor.getTags()).containsExactly(new TestTag("custom tag"));
 	}
 
+	@Test
+	public void tagsAreImmutableAndSharedBetweenDescriptors() throws Exception {
+		Method testMethod = ASampleTestCase.class.getDeclaredMethod("foo");
+		MethodTestDescriptor descriptor1 = new MethodTestDescriptor("id1", ASampleTestCase.class, testMethod);
+		MethodTestDescriptor descriptor2 = new MethodTestDescriptor("id2", ASampleTestCase.class, testMethod);
+
+		assertSame(descriptor1.getTags(), descriptor1.getTags());
+		assertSame(descriptor1.getTags(), descriptor2.getTags());
+		assertSame(descriptor1.getTags().iterator().next(), descriptor2.getTags().iterator().next());
+		assertThrows(UnsupportedOperationException.class, () -> descriptor1.getTags().add(new TestTag("other")));
+	}
+
+	@Test
+	public void methodTagsReflectCurrentParent() throws Exception {
+		Method testMethod = ASampleTestCase.class.getDeclaredMethod("foo");
+		MethodTestDescriptor methodDescriptor = new MethodTestDescriptor("method id", ASampleTestCase.class,
+			testMethod);
+		assertEquals(2, methodDescriptor.getTags().size());
+
+		new ClassTestDescriptor("class id", ASampleTestCase.class).addChild(methodDescriptor);
+
+		assertEquals(4, methodDescriptor.getTags().size());
+	}
+
 	@Test
 	public void constructFromMethodWithParameters() throws Exception {
 		Method testMethod = ASampleTestCase.class.getDeclaredMethod("test", String.class, BigDecimal.class);
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.engine.junit5.execution;
+
+import static org.junit.gen5.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.gen5.api.Test;
+import org.junit.gen5.api.extension.ExtensionContext;
+import org.junit.gen5.api.extension.MethodInvocationContext;
+import org.junit.gen5.api.extension.MethodParameterResolver;
+import org.junit.gen5.api.extension.ParameterBasedMethodParameterResolver;
+import org.junit.gen5.api.extension.ParameterResolutionException;
+
+/**
+ * @since 5.0
+ */
+public class MethodInvokerTests {
+
+	private final TestExtensionRegistry registry = new TestExtensionRegistry();
+
+	private final AtomicInteger supportsCalls = new AtomicInteger();
+
+	@Test
+	public void parameterBasedResolversAreAskedOncePerMethod() throws Exception {
+		registry.registerExtensionPoint(new ParameterBasedMethodParameterResolver() {
+
+			@Override
+			public boolean supports(Parameter parameter) {
+				supportsCalls.incrementAndGet();
+				return parameter.getType() == String.class;
+			}
+
+			@Override
+			public Object resolve(Parameter parameter, MethodInvocationContext methodInvocationContext,
+					ExtensionContext extensionContext) {
+				return "resolved";
+			}
+		});
+
+		assertEquals("resolved", invoke("echo", String.class));
+		assertEquals("resolved", invoke("echo", String.class));
+		assertEquals(1, supportsCalls.get());
+	}
+
+	@Test
+	public void contextDependentResolversAreAskedOnEachInvocation() throws Exception {
+		registry.registerExtensionPoint(new MethodParameterResolver() {
+
+			@Override
+			public boolean supports(Parameter parameter, MethodInvocationContext methodInvocationContext,
+					ExtensionContext extensionContext) {
+				return supportsCalls.incrementAndGet() == 1;
+			}
+
+			@Override
+			public Object resolve(Parameter parameter, MethodInvocationContext methodInvocationContext,
+					ExtensionContext extensionContext) {
+				return "resolved";
+			}
+		});
+
+		assertEquals("resolved", invoke("echo", String.class));
+		ParameterResolutionException exception = expectThrows(ParameterResolutionException.class,
+			() -> invoke("echo", String.class));
+		assertTrue(exception.getMessage().startsWith("No MethodParameterResolver registered for parameter"));
+		assertEquals(2, supportsCalls.get());
+	}
+
+	@Test
+	public void competingResolversAreReportedOnEachInvocation() throws Exception {
+		ParameterBasedMethodParameterResolver resolver = new ParameterBasedMethodParameterResolver() {
+
+			@Override
+			public boolean supports(Parameter parameter) {
+				return true;
+			}
+
+			@Override
+			public Object resolve(Parameter parameter, MethodInvocationContext methodInvocationContext,
+					ExtensionContext extensionContext) {
+				return "resolved";
+			}
+		};
+		registry.registerExtensionPoint(resolver);
+		registry.registerExtensionPoint(resolver);
+
+		for (int i = 0; i < 2; i++) {
+			ParameterResolutionException exception = expectThrows(ParameterResolutionException.class,
+				() -> invoke("echo", String.class));
+			assertTrue(exception.getMessage().startsWith("Discovered multiple competing MethodParameterResolvers"));
+		}
+	}
+
+	private Object invoke(String methodName, Class<?>... parameterTypes) throws Exception {
+		Method method = SampleTestCase.class.getDeclaredMethod(methodName, parameterTypes);
+		SampleTestCase instance = new SampleTestCase();
+		MethodInvocationContext methodInvocationContext = new MethodInvocationContext() {
+
+			@Override
+			public Object getInstance() {
+				return instance;
+			}
+
+			@Override
+			public Method getMethod() {
+				return method;
+			}
+		};
+		return new MethodInvoker(mock(ExtensionContext.class), registry).invoke(methodInvocationContext);
+	}
+
+	static class SampleTestCase {
+
+		String echo(String value) {
+			return value;
+		}
+	}
+
+}
@@ -11,8 +11,13 @@
 package org.junit.gen5.engine.junit5.execution;
 
 import static org.junit.gen5.api.Assertions.assertEquals;
+import static org.junit.gen5.api.Assertions.assertNotSame;
+import static org.junit.gen5.api.Assertions.assertSame;
 import static org.junit.gen5.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -167,6 +172,63 @@ public class TestExtensionRegistryTests {
 
 	}
 
+	@Test
+	public void streamReflectsExtensionPointsRegisteredInParentAfterPreviousLookup() throws Exception {
+
+		TestExtensionRegistry parent = new TestExtensionRegistry();
+		registry = new TestExtensionRegistry(parent);
+		assertEquals(0, countExtensionPoints(MyExtensionPoint.class));
+
+		parent.registerExtension(MyExtension.class);
+		assertEquals(1, countExtensionPoints(MyExtensionPoint.class));
+
+		registry.registerExtension(YourExtension.class);
+		assertEquals(2, countExtensionPoints(MyExtensionPoint.class));
+	}
+
+	@Test
+	public void registryWithoutOwnRegistrationsSharesViewOfParent() throws Exception {
+
+		TestExtensionRegistry child = new TestExtensionRegistry(registry);
+		TestExtensionRegistry grandChild = new TestExtensionRegistry(child);
+
+		assertSame(registry.getRegisteredExtensionTypes(), grandChild.getRegisteredExtensionTypes());
+
+		child.registerExtension(MyExtension.class);
+
+		assertNotSame(registry.getRegisteredExtensionTypes(), grandChild.getRegisteredExtensionTypes());
+		assertSame(child.getRegisteredExtensionTypes(), grandChild.getRegisteredExtensionTypes());
+		assertExtensionRegistered(grandChild, MyExtension.class);
+	}
+
+	@Test
+	public void backwardOrderIsReverseOfSortedForwardOrder() throws Exception {
+
+		MyExtensionPoint innermost = test -> {
+		};
+		MyExtensionPoint outermost = test -> {
+		};
+		MyExtensionPoint defaultPosition = test -> {
+		};
+		registry.registerExtensionPoint(innermost, Position.INNERMOST);
+		registry.registerExtensionPoint(outermost, Position.OUTERMOST);
+		registry.registerExtensionPoint(defaultPosition, Position.DEFAULT);
+
+		assertEquals(Arrays.asList(outermost, defaultPosition, innermost),
+			extensionPoints(TestExtensionRegistry.ApplicationOrder.FORWARD));
+		assertEquals(Arrays.asList(innermost, defaultPosition, outermost),
+			extensionPoints(TestExtensionRegistry.ApplicationOrder.BACKWARD));
+		assertEquals(Arrays.asList(outermost, defaultPosition, innermost),
+			extensionPoints(TestExtensionRegistry.ApplicationOrder.FORWARD));
+	}
+
+	private List<MyExtensionPoint> extensionPoints(TestExtensionRegistry.ApplicationOrder order) {
+		List<MyExtensionPoint> extensionPoints = new ArrayList<>();
+		registry.stream(MyExtensionPoint.class, order).forEach(
+			registeredExtensionPoint -> extensionPoints.add(registeredExtensionPoint.getExtensionPoint()));
+		return extensionPoints;
+	}
+
 	private int countExtensionPoints(Class<? extends ExtensionPoint> extensionPointType) throws Exception {
 		AtomicInteger counter = new AtomicInteger();
 		registry.stream(extensionPointType, TestExtensionRegistry.ApplicationOrder.FORWARD).forEach(
@@ -11,12 +11,25 @@
 package org.junit.gen5.launcher;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.gen5.api.Assertions.assertThrows;
 import static org.junit.gen5.engine.TestPlanSpecification.*;
 import static org.junit.gen5.launcher.LauncherFactory.createLauncher;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import org.junit.gen5.api.Test;
+import org.junit.gen5.commons.util.PreconditionViolationException;
 import org.junit.gen5.engine.DummyTestEngine;
+import org.junit.gen5.engine.EngineAwareTestDescriptor;
+import org.junit.gen5.engine.EngineIdFilter;
+import org.junit.gen5.engine.ExecutionRequest;
 import org.junit.gen5.engine.TestDescriptor;
+import org.junit.gen5.engine.TestEngine;
+import org.junit.gen5.engine.TestExecutionResult;
 import org.junit.gen5.engine.TestPlanSpecification;
 
 public class LauncherTests {
@@ -94,6 +107,180 @@ public class LauncherTests {
 		assertThat(testPlan.getChildren(rootIdentifier.getUniqueId())).isEmpty();
 	}
 
+	@Test
+	public void discoverDoesNotAskEnginesExcludedByEngineIdFilter() {
+		DummyTestEngine firstEngine = new DummyTestEngine("first");
+		TestDescriptor test1 = firstEngine.addTest("test1", noOp());
+		List<String> discoveringEngines = new ArrayList<>();
+
+		Launcher launcher = createLauncher(recordingDiscovery(firstEngine, discoveringEngines),
+			recordingDiscovery(new DummyTestEngine("second"), discoveringEngines));
+
+		TestPlanSpecification specification = TestPlanSpecification.build(forUniqueId(test1.getUniqueId()));
+		specification.filterWith(EngineIdFilter.byEngineId("first"));
+
+		TestPlan testPlan = launcher.discover(specification);
+
+		assertThat(discoveringEngines).containsExactly("first");
+		TestIdentifier rootIdentifier = testPlan.getRoots().iterator().next();
+		assertThat(testPlan.getChildren(rootIdentifier.getUniqueId())).extracting(
+			TestIdentifier::getUniqueId).containsExactly(new TestId("first"));
+	}
+
+	@Test
+	public void executeDiscoveredTestPlanWithoutDiscoveringAgain() {
+		DummyTestEngine engine = new DummyTestEngine("myEngine");
+		AtomicBoolean testExecuted = new AtomicBoolean();
+		TestDescriptor test = engine.addTest("test", () -> testExecuted.set(true));
+		List<String> discoveringEngines = new ArrayList<>();
+		List<TestPlan> executedTestPlans = new ArrayList<>();
+
+		Launcher launcher = createLauncher(recordingDiscovery(engine, discoveringEngines));
+		launcher.registerTestExecutionListeners(new TestExecutionListener() {
+
+			@Override
+			public void testPlanExecutionStarted(TestPlan testPlan) {
+				executedTestPlans.add(testPlan);
+			}
+		});
+
+		TestPlan testPlan = launcher.discover(TestPlanSpecification.build(forUniqueId(test.getUniqueId())));
+		launcher.execute(testPlan);
+
+		assertThat(discoveringEngines).containsExactly("myEngine");
+		assertThat(executedTestPlans).containsExactly(testPlan);
+		assertThat(testExecuted.get()).isTrue();
+	}
+
+	@Test
+	public void discoveredTestPlanCanBeExecutedOnlyOnce() {
+		DummyTestEngine engine = new DummyTestEngine("myEngine");
+		TestDescriptor test = engine.addTest("test", noOp());
+		Launcher launcher = createLauncher(engine);
+
+		TestPlan testPlan = launcher.discover(TestPlanSpecification.build(forUniqueId(test.getUniqueId())));
+		launcher.execute(testPlan);
+
+		assertThrows(PreconditionViolationException.class, () -> launcher.execute(testPlan));
+	}
+
+	@Test
+	public void discoverTestsInEnginesConcurrentlyInParallelEngineDiscoveryMode() {
+		CountDownLatch latch = new CountDownLatch(2);
+		DummyTestEngine firstEngine = new DummyTestEngine("first");
+		TestDescriptor test1 = firstEngine.addTest("test1", noOp());
+		DummyTestEngine secondEngine = new DummyTestEngine("second");
+		TestDescriptor test2 = secondEngine.addTest("test2", noOp());
+
+		Launcher launcher = createLauncher(awaitingDiscovery(firstEngine, latch),
+			awaitingDiscovery(secondEngine, latch));
+		launcher.setParallelEngineDiscoveryEnabled(true);
+
+		TestPlan testPlan = launcher.discover(
+			TestPlanSpecification.build(forUniqueId(test1.getUniqueId()), forUniqueId(test2.getUniqueId())));
+
+		TestIdentifier rootIdentifier = testPlan.getRoots().iterator().next();
+		assertThat(testPlan.getChildren(rootIdentifier.getUniqueId())).extracting(
+			TestIdentifier::getUniqueId).containsExactly(new TestId("first"), new TestId("second"));
+		assertThat(testPlan.getChildren(new TestId("first"))).hasSize(1);
+		assertThat(testPlan.getChildren(new TestId("second"))).hasSize(1);
+	}
+
+	@Test
+	public void executeEnginesConcurrentlyInParallelEngineExecutionMode() {
+		CountDownLatch latch = new CountDownLatch(2);
+		Runnable awaitOtherEngine = () -> {
+			latch.countDown();
+			try {
+				assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+			}
+			catch (InterruptedException ex) {
+				throw new IllegalStateException(ex);
+			}
+		};
+		DummyTestEngine firstEngine = new DummyTestEngine("first");
+		TestDescriptor test1 = firstEngine.addTest("test1", awaitOtherEngine);
+		DummyTestEngine secondEngine = new DummyTestEngine("second");
+		TestDescriptor test2 = secondEngine.addTest("test2", awaitOtherEngine);
+
+		Launcher launcher = createLauncher(firstEngine, secondEngine);
+		launcher.setParallelEngineExecutionEnabled(true);
+		List<String> events = new ArrayList<>();
+		launcher.registerTestExecutionListeners(new TestExecutionListener() {
+
+			@Override
+			public void executionStarted(TestIdentifier testIdentifier) {
+				events.add("started:" + testIdentifier.getUniqueId());
+			}
+
+			@Override
+			public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+				events.add("finished:" + testIdentifier.getUniqueId() + ":" + testExecutionResult.getStatus());
+			}
+		});
+
+		launcher.execute(
+			TestPlanSpecification.build(forUniqueId(test1.getUniqueId()), forUniqueId(test2.getUniqueId())));
+
+		assertThat(events).containsOnly("started:first", "started:first:test1", "finished:first:test1:SUCCESSFUL",
+			"finished:first:SUCCESSFUL", "started:second", "started:second:test2", "finished:second:test2:SUCCESSFUL",
+			"finished:second:SUCCESSFUL");
+		assertThat(events.indexOf("started:first")).isLessThan(events.indexOf("started:first:test1"));
+		assertThat(events.indexOf("finished:first:test1:SUCCESSFUL")).isLessThan(
+			events.indexOf("finished:first:SUCCESSFUL"));
+		assertThat(events.indexOf("started:second")).isLessThan(events.indexOf("started:second:test2"));
+		assertThat(events.indexOf("finished:second:test2:SUCCESSFUL")).isLessThan(
+			events.indexOf("finished:second:SUCCESSFUL"));
+	}
+
+	private static TestEngine recordingDiscovery(TestEngine delegate, List<String> discoveringEngines) {
+		return new TestEngine() {
+
+			@Override
+			public String getId() {
+				return delegate.getId();
+			}
+
+			@Override
+			public EngineAwareTestDescriptor discoverTests(TestPlanSpecification specification) {
+				discoveringEngines.add(getId());
+				return delegate.discoverTests(specification);
+			}
+
+			@Override
+			public void execute(ExecutionRequest request) {
+				delegate.execute(request);
+			}
+		};
+	}
+
+	private static TestEngine awaitingDiscovery(TestEngine delegate, CountDownLatch latch) {
+		return new TestEngine() {
+
+			@Override
+			public String getId() {
+				return delegate.getId();
+			}
+
+			@Override
+			public EngineAwareTestDescriptor discoverTests(TestPlanSpecification specification) {
+				latch.countDown();
+				try {
+					assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+				}
+				catch (InterruptedException ex) {
+					throw new IllegalStateException(ex);
+				}
+				return delegate.discoverTests(specification);
+			}
+
+			@Override
+			public void execute(ExecutionRequest request) {
+				delegate.execute(request);
+			}
+		};
+	}
+
 	private static Runnable noOp() {
 		return () -> {
 		};
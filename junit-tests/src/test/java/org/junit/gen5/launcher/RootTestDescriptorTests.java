@@ -0,0 +1,107 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.launcher;
+
+import static java.util.Arrays.asList;
+import static org.junit.gen5.api.Assertions.*;
+import static org.junit.gen5.engine.TestPlanSpecification.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.gen5.api.Test;
+import org.junit.gen5.engine.AbstractTestDescriptor;
+import org.junit.gen5.engine.DummyTestEngine;
+import org.junit.gen5.engine.TestDescriptor;
+import org.junit.gen5.engine.TestPlanSpecification;
+
+class RootTestDescriptorTests {
+
+	private final RootTestDescriptor root = new RootTestDescriptor();
+
+	@Test
+	void removesRejectedTestsAndContainersLeftWithoutTests() {
+		DummyTestEngine engine = new DummyTestEngine("engine");
+		TestDescriptor accepted = engine.addTest("accepted", () -> {
+		});
+		TestDescriptor engineDescriptor = engine.discoverTests(null);
+		Descriptor group1 = new Descriptor("engine:group1", false);
+		Descriptor group11 = new Descriptor("engine:group1-1", false);
+		Descriptor group2 = new Descriptor("engine:group2", false);
+		engineDescriptor.addChild(group1);
+		engineDescriptor.addChild(group2);
+		group1.addChild(group11);
+		group1.addChild(new Descriptor("engine:test1", true));
+		group11.addChild(new Descriptor("engine:rejected", true));
+		root.addChild(engineDescriptor);
+
+		TestPlanSpecification specification = build();
+		specification.filterWith(descriptor -> !descriptor.getUniqueId().endsWith("rejected"));
+		root.applyFiltersAndPrune(specification);
+
+		assertEquals(asList("engine", "engine:accepted", "engine:group1", "engine:test1"), uniqueIdsInTree());
+		assertSame(accepted, root.findByUniqueId("engine:accepted").get());
+		assertFalse(root.findByUniqueId("engine:group1-1").isPresent());
+		assertEquals(2L, root.countStaticTests());
+	}
+
+	@Test
+	void removesEnginesWithoutTests() {
+		DummyTestEngine engine = new DummyTestEngine("engine");
+		engine.addTest("rejected", () -> {
+		});
+		root.addChild(engine.discoverTests(null));
+
+		TestPlanSpecification specification = build();
+		specification.filterWith(descriptor -> false);
+		root.applyFiltersAndPrune(specification);
+
+		assertTrue(root.getChildren().isEmpty());
+		assertFalse(root.getTestEngines().iterator().hasNext());
+	}
+
+	private List<String> uniqueIdsInTree() {
+		List<String> uniqueIds = new ArrayList<>();
+		root.allDescendants().forEach(descriptor -> uniqueIds.add(descriptor.getUniqueId()));
+		return uniqueIds;
+	}
+
+	private static class Descriptor extends AbstractTestDescriptor {
+
+		private final boolean test;
+
+		Descriptor(String uniqueId, boolean test) {
+			super(uniqueId);
+			this.test = test;
+		}
+
+		@Override
+		public String getName() {
+			return getUniqueId();
+		}
+
+		@Override
+		public String getDisplayName() {
+			return getUniqueId();
+		}
+
+		@Override
+		public boolean isTest() {
+			return this.test;
+		}
+
+		@Override
+		public boolean isContainer() {
+			return !this.test;
+		}
+	}
+
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.surefire;
+
+import static java.util.Arrays.asList;
+import static org.junit.gen5.api.Assertions.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.apache.maven.surefire.providerapi.ProviderParameters;
+import org.apache.maven.surefire.report.ReportEntry;
+import org.apache.maven.surefire.report.ReporterFactory;
+import org.apache.maven.surefire.report.RunListener;
+import org.apache.maven.surefire.suite.RunResult;
+import org.apache.maven.surefire.util.RunOrderCalculator;
+import org.apache.maven.surefire.util.ScanResult;
+import org.apache.maven.surefire.util.ScannerFilter;
+import org.apache.maven.surefire.util.TestsToRun;
+import org.junit.gen5.api.BeforeEach;
+import org.junit.gen5.api.Test;
+
+/**
+ * Micro-tests that verify how {@link JUnitGen5Provider} handles the test
+ * sets it is invoked with.
+ *
+ * @since 5.0
+ */
+class JUnitGen5ProviderTests {
+
+	private final List<String> events = new ArrayList<>();
+
+	private final RunResult runResult = new RunResult(0, 0, 0, 0);
+
+	private ProviderParameters parameters;
+
+	private ScanResult scanResult;
+
+	@BeforeEach
+	void stubProviderParameters() {
+		RunListener runListener = mock(RunListener.class);
+		doAnswer(invocation -> {
+			ReportEntry testSet = (ReportEntry) invocation.getArguments()[0];
+			return events.add("started " + testSet.getName());
+		}).when(runListener).testSetStarting(any(ReportEntry.class));
+
+		ReporterFactory reporterFactory = mock(ReporterFactory.class);
+		when(reporterFactory.createReporter()).thenReturn(runListener);
+		when(reporterFactory.close()).thenReturn(runResult);
+
+		RunOrderCalculator reversingRunOrderCalculator = testsToRun -> {
+			List<Class<?>> testClasses = new ArrayList<>();
+			testsToRun.forEach(testClasses::add);
+			Collections.reverse(testClasses);
+			return testsToRun(testClasses.toArray(new Class<?>[testClasses.size()]));
+		};
+
+		scanResult = mock(ScanResult.class);
+		parameters = mock(ProviderParameters.class);
+		when(parameters.getScanResult()).thenReturn(scanResult);
+		when(parameters.getTestClassLoader()).thenReturn(getClass().getClassLoader());
+		when(parameters.getRunOrderCalculator()).thenReturn(reversingRunOrderCalculator);
+		when(parameters.getReporterFactory()).thenReturn(reporterFactory);
+	}
+
+	@Test
+	void invokeWithClassExecutesThatClass() throws Exception {
+		RunResult result = new JUnitGen5Provider(parameters).invoke(FirstTestCase.class);
+
+		assertSame(runResult, result);
+		assertEquals(asList(started(FirstTestCase.class)), events);
+		verifyZeroInteractions(scanResult);
+	}
+
+	@Test
+	void invokeWithEagerTestsToRunDiscoversAllClassesBeforeExecutingThem() throws Exception {
+		TestsToRun testsToRun = new RecordingTestsToRun(true, FirstTestCase.class, SecondTestCase.class);
+
+		RunResult result = new JUnitGen5Provider(parameters).invoke(testsToRun);
+
+		assertSame(runResult, result);
+		assertEquals(asList(read(FirstTestCase.class), read(SecondTestCase.class), started(FirstTestCase.class),
+			started(SecondTestCase.class)), events);
+	}
+
+	@Test
+	void invokeWithLazyTestsToRunExecutesOneClassAtATime() throws Exception {
+		TestsToRun testsToRun = new RecordingTestsToRun(false, FirstTestCase.class, SecondTestCase.class);
+
+		RunResult result = new JUnitGen5Provider(parameters).invoke(testsToRun);
+
+		assertSame(runResult, result);
+		assertEquals(asList(read(FirstTestCase.class), started(FirstTestCase.class), read(SecondTestCase.class),
+			started(SecondTestCase.class)), events);
+	}
+
+	@Test
+	void invokeWithoutTestSetExecutesScannedClassesInRunOrder() throws Exception {
+		stubScannedClasses(FirstTestCase.class, SecondTestCase.class);
+
+		RunResult result = new JUnitGen5Provider(parameters).invoke(null);
+
+		assertSame(runResult, result);
+		assertEquals(asList(started(SecondTestCase.class), started(FirstTestCase.class)), events);
+	}
+
+	@Test
+	void invokeWithUnexpectedTestSetIsRejected() {
+		IllegalArgumentException exception = expectThrows(IllegalArgumentException.class,
+			() -> new JUnitGen5Provider(parameters).invoke("unexpected"));
+
+		assertEquals("Unexpected value of fork test set: unexpected", exception.getMessage());
+	}
+
+	@Test
+	void suitesAreScannedClassesWithTestsInRunOrder() {
+		stubScannedClasses(FirstTestCase.class, ClassWithoutTests.class, SecondTestCase.class);
+
+		Iterable<Class<?>> suites = new JUnitGen5Provider(parameters).getSuites();
+
+		assertEquals(asList(SecondTestCase.class, FirstTestCase.class), suites);
+	}
+
+	private void stubScannedClasses(Class<?>... testClasses) {
+		when(scanResult.applyFilter(any(ScannerFilter.class), any(ClassLoader.class))).thenReturn(
+			testsToRun(testClasses));
+	}
+
+	private static TestsToRun testsToRun(Class<?>... testClasses) {
+		return new TestsToRun(new LinkedHashSet<>(asList(testClasses)));
+	}
+
+	private static String started(Class<?> testClass) {
+		return "started " + testClass.getName();
+	}
+
+	private static String read(Class<?> testClass) {
+		return "read " + testClass.getName();
+	}
+
+	/**
+	 * Records each class that the provider reads from it, like the
+	 * {@link TestsToRun} of a reused fork that receives the classes one at a
+	 * time if it does not allow eager reading.
+	 */
+	private class RecordingTestsToRun extends TestsToRun {
+
+		private final boolean allowEagerReading;
+
+		RecordingTestsToRun(boolean allowEagerReading, Class<?>... testClasses) {
+			super(new LinkedHashSet<>(asList(testClasses)));
+			this.allowEagerReading = allowEagerReading;
+		}
+
+		@Override
+		public boolean allowEagerReading() {
+			return this.allowEagerReading;
+		}
+
+		@Override
+		public Iterator<Class<?>> iterator() {
+			Iterator<Class<?>> iterator = super.iterator();
+			return new Iterator<Class<?>>() {
+
+				@Override
+				public boolean hasNext() {
+					return iterator.hasNext();
+				}
+
+				@Override
+				public Class<?> next() {
+					Class<?> testClass = iterator.next();
+					events.add(read(testClass));
+					return testClass;
+				}
+			};
+		}
+
+	}
+
+	private static class FirstTestCase {
+
+		@Test
+		void test() {
+		}
+
+	}
+
+	private static class SecondTestCase {
+
+		@Test
+		void test() {
+		}
+
+	}
+
+	private static class ClassWithoutTests {
+
+		void notATest() {
+		}
+
+	}
+
+}
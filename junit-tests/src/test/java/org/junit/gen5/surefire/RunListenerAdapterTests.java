@@ -0,0 +1,167 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.surefire;
+
+import static java.util.Arrays.stream;
+import static java.util.stream.Collectors.toList;
+import static org.junit.gen5.api.Assertions.fail;
+import static org.junit.gen5.engine.TestPlanSpecification.build;
+import static org.junit.gen5.launcher.LauncherFactory.createLauncher;
+import static org.mockito.Matchers.argThat;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.apache.maven.surefire.report.ReportEntry;
+import org.apache.maven.surefire.report.RunListener;
+import org.junit.gen5.api.BeforeEach;
+import org.junit.gen5.api.Disabled;
+import org.junit.gen5.api.Test;
+import org.junit.gen5.engine.TestPlanSpecification;
+import org.junit.gen5.engine.TestPlanSpecificationElement;
+import org.junit.gen5.engine.junit5.JUnit5TestEngine;
+import org.junit.gen5.launcher.Launcher;
+import org.mockito.ArgumentMatcher;
+import org.mockito.InOrder;
+
+/**
+ * Micro-tests that verify the calls {@link RunListenerAdapter} makes on a
+ * surefire {@link RunListener}.
+ *
+ * @since 5.0
+ */
+class RunListenerAdapterTests {
+
+	private static final String PROVIDER = JUnitGen5Provider.class.getName();
+
+	private RunListener runListener;
+
+	@BeforeEach
+	void createRunListener() {
+		runListener = mock(RunListener.class);
+	}
+
+	@Test
+	void succeedingClassIsReportedAsSucceedingTestSet() {
+		String className = SucceedingTestCase.class.getName();
+
+		execute(SucceedingTestCase.class);
+
+		InOrder inOrder = inOrder(runListener);
+		inOrder.verify(runListener).testSetStarting(entry(PROVIDER, className));
+		inOrder.verify(runListener).testStarting(entry(className, className));
+		inOrder.verify(runListener).testStarting(entry(className, "succeedingTest"));
+		inOrder.verify(runListener).testSucceeded(entry(className, "succeedingTest"));
+		inOrder.verify(runListener).testSucceeded(entry(className, className));
+		inOrder.verify(runListener).testSetCompleted(entry(PROVIDER, className));
+		verify(runListener, never()).testFailed(any(ReportEntry.class));
+	}
+
+	@Test
+	void failingTestIsReportedWithinItsTestSet() {
+		String className = FailingTestCase.class.getName();
+
+		execute(FailingTestCase.class);
+
+		InOrder inOrder = inOrder(runListener);
+		inOrder.verify(runListener).testSetStarting(entry(PROVIDER, className));
+		inOrder.verify(runListener).testStarting(entry(className, className));
+		inOrder.verify(runListener).testStarting(entry(className, "failingTest"));
+		inOrder.verify(runListener).testFailed(entry(className, "failingTest"));
+		inOrder.verify(runListener).testSucceeded(entry(className, className));
+		inOrder.verify(runListener).testSetCompleted(entry(PROVIDER, className));
+		verify(runListener, never()).testSucceeded(entry(className, "failingTest"));
+	}
+
+	@Test
+	void skippedClassIsReportedAsSkippedTestSet() {
+		String className = DisabledTestCase.class.getName();
+
+		execute(DisabledTestCase.class);
+
+		InOrder inOrder = inOrder(runListener);
+		inOrder.verify(runListener).testSetStarting(entry(PROVIDER, className));
+		inOrder.verify(runListener).testSkipped(entry(className, className));
+		inOrder.verify(runListener).testSetCompleted(entry(PROVIDER, className));
+		verify(runListener, never()).testStarting(entry(className, className));
+		verify(runListener, never()).testStarting(entry(className, "skippedTest"));
+	}
+
+	@Test
+	void eachClassOfTestPlanIsReportedAsTestSetOfItsOwn() {
+		String succeedingClassName = SucceedingTestCase.class.getName();
+		String failingClassName = FailingTestCase.class.getName();
+
+		execute(SucceedingTestCase.class, FailingTestCase.class);
+
+		InOrder succeedingTestSet = inOrder(runListener);
+		succeedingTestSet.verify(runListener).testSetStarting(entry(PROVIDER, succeedingClassName));
+		succeedingTestSet.verify(runListener).testSucceeded(entry(succeedingClassName, "succeedingTest"));
+		succeedingTestSet.verify(runListener).testSetCompleted(entry(PROVIDER, succeedingClassName));
+
+		InOrder failingTestSet = inOrder(runListener);
+		failingTestSet.verify(runListener).testSetStarting(entry(PROVIDER, failingClassName));
+		failingTestSet.verify(runListener).testFailed(entry(failingClassName, "failingTest"));
+		failingTestSet.verify(runListener).testSetCompleted(entry(PROVIDER, failingClassName));
+
+		verify(runListener, times(2)).testSetStarting(any(ReportEntry.class));
+		verify(runListener, times(2)).testSetCompleted(any(ReportEntry.class));
+	}
+
+	private void execute(Class<?>... testClasses) {
+		Launcher launcher = createLauncher(new JUnit5TestEngine());
+		launcher.registerTestExecutionListeners(new RunListenerAdapter(runListener));
+		// @formatter:off
+		List<TestPlanSpecificationElement> elements = stream(testClasses)
+				.map(TestPlanSpecification::forClass)
+				.collect(toList());
+		// @formatter:on
+		launcher.execute(launcher.discover(build(elements)));
+	}
+
+	private static ReportEntry entry(String sourceName, String name) {
+		return argThat(new ArgumentMatcher<ReportEntry>() {
+
+			@Override
+			public boolean matches(Object argument) {
+				ReportEntry reportEntry = (ReportEntry) argument;
+				return sourceName.equals(reportEntry.getSourceName()) && name.equals(reportEntry.getName());
+			}
+		});
+	}
+
+	private static class SucceedingTestCase {
+
+		@Test
+		void succeedingTest() {
+		}
+
+	}
+
+	private static class FailingTestCase {
+
+		@Test
+		void failingTest() {
+			fail("always fails");
+		}
+
+	}
+
+	@Disabled
+	private static class DisabledTestCase {
+
+		@Test
+		void skippedTest() {
+		}
+
+	}
+
+}
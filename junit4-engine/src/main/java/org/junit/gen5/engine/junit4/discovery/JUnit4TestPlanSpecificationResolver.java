@@ -11,7 +11,6 @@
 package org.junit.gen5.engine.junit4.discovery;
 
 import static java.util.stream.Collectors.*;
-import static org.junit.gen5.commons.util.ReflectionUtils.*;
 import static org.junit.gen5.engine.junit4.discovery.RunnerTestDescriptorAwareFilter.adapter;
 
 import java.io.File;
@@ -27,8 +26,10 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.IntFunction;
 
+import org.junit.gen5.commons.util.ClassFileReferenceFilter;
 import org.junit.gen5.commons.util.ReflectionUtils;
 import org.junit.gen5.engine.ClassFilter;
+import org.junit.gen5.engine.ClasspathScanCache;
 import org.junit.gen5.engine.EngineDescriptor;
 import org.junit.gen5.engine.TestPlanSpecification;
 import org.junit.gen5.engine.TestPlanSpecificationElementVisitor;
@@ -51,6 +52,7 @@ public class JUnit4TestPlanSpecificationResolver {
 
 	public void resolve(TestPlanSpecification specification) {
 		ClassFilter classFilter = specification.getClassFilter();
+		ClasspathScanCache classpathScanCache = specification.getClasspathScanCache();
 		RunnerBuilder runnerBuilder = new DefensiveAllDefaultPossibilitiesBuilder();
 		Set<Class<?>> unfilteredTestClasses = new LinkedHashSet<>();
 		Map<Class<?>, List<RunnerTestDescriptorAwareFilter>> filteredTestClasses = new LinkedHashMap<>();
@@ -58,6 +60,9 @@ public class JUnit4TestPlanSpecificationResolver {
 
 			private final IsPotentialJUnit4TestClass classTester = new IsPotentialJUnit4TestClass();
 
+			// Only classes that (indirectly) reference JUnit types need to be loaded.
+			private final ClassFileReferenceFilter classFileFilter = ClassFileReferenceFilter.referencing("junit/");
+
 			@Override
 			public void visitClass(Class<?> testClass) {
 				if (classFilter.acceptClass(testClass)) {
@@ -67,12 +72,14 @@ public class JUnit4TestPlanSpecificationResolver {
 
 			@Override
 			public void visitAllTests(File rootDirectory) {
-				findAllClassesInClasspathRoot(rootDirectory, classTester).stream().forEach(this::visitClass);
+				classpathScanCache.findAllClassesInClasspathRoot(rootDirectory, classFilter, classFileFilter,
+					classTester).forEach(this::visitClass);
 			}
 
 			@Override
 			public void visitPackage(String packageName) {
-				findAllClassesInPackage(packageName, classTester).stream().forEach(this::visitClass);
+				classpathScanCache.findAllClassesInPackage(packageName, classFilter, classFileFilter,
+					classTester).forEach(this::visitClass);
 			}
 
 			@Override
@@ -23,6 +23,7 @@ import java.util.function.Predicate;
 
 import org.junit.gen5.commons.util.Preconditions;
 import org.junit.gen5.commons.util.StringUtils;
+import org.junit.gen5.engine.EngineIdFilter;
 import org.junit.gen5.engine.TestDescriptor;
 import org.junit.gen5.engine.TestPlanSpecification;
 import org.junit.gen5.engine.TestPlanSpecificationElement;
@@ -67,6 +68,7 @@ public class JUnit5 extends Runner implements Filterable {
 	private final Launcher launcher = new Launcher();
 	private final Class<?> testClass;
 	private TestPlanSpecification specification;
+	private TestPlan testPlan;
 	private JUnit5TestTree testTree;
 
 	public JUnit5(Class<?> testClass) throws InitializationError {
@@ -84,13 +86,13 @@ public class JUnit5 extends Runner implements Filterable {
 	public void run(RunNotifier notifier) {
 		JUnit5RunnerListener listener = new JUnit5RunnerListener(this.testTree, notifier);
 		this.launcher.registerTestExecutionListeners(listener);
-		this.launcher.execute(this.specification);
+		this.launcher.execute(this.testPlan);
 	}
 
 	private JUnit5TestTree generateTestTree() {
 		Preconditions.notNull(this.specification, "TestPlanSpecification must not be null");
-		TestPlan plan = this.launcher.discover(this.specification);
-		return new JUnit5TestTree(plan, testClass);
+		this.testPlan = this.launcher.discover(this.specification);
+		return new JUnit5TestTree(this.testPlan, testClass);
 	}
 
 	private TestPlanSpecification createSpecification() {
@@ -160,8 +162,7 @@ public class JUnit5 extends Runner implements Filterable {
 	private void addEngineIdFilter(TestPlanSpecification plan) {
 		String engineId = getExplicitEngineId();
 		if (StringUtils.isNotBlank(engineId)) {
-			Predicate<TestDescriptor> engineFilter = TestPlanSpecification.byEngine(engineId);
-			plan.filterWith(engineFilter);
+			plan.filterWith(EngineIdFilter.byEngineId(engineId));
 		}
 	}
 
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.api;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@code @Execution} is used to declare the {@link ExecutionMode} of the
+ * annotated test class or test method when tests are executed in parallel.
+ *
+ * <p>Test methods that are not annotated inherit the execution mode of
+ * their test class; nested test classes that are not annotated inherit
+ * the execution mode of their enclosing class. Tests are executed
+ * {@linkplain ExecutionMode#CONCURRENT concurrently} by default.
+ *
+ * <p>Typical candidates for {@link ExecutionMode#SAME_THREAD SAME_THREAD}
+ * are test classes whose test methods share mutable static state.
+ *
+ * @since 5.0
+ * @see ExecutionMode
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+public @interface Execution {
+
+	/**
+	 * The execution mode of the annotated test class or test method.
+	 */
+	ExecutionMode value();
+
+}
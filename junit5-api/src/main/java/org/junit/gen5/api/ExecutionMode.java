@@ -0,0 +1,34 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.api;
+
+/**
+ * Supported execution modes for test classes and test methods when tests
+ * are executed in parallel.
+ *
+ * @since 5.0
+ * @see Execution
+ */
+public enum ExecutionMode {
+
+	/**
+	 * Force execution in the same thread as the parent, i.e. sequentially
+	 * with all siblings that are also declared to run in the same thread.
+	 */
+	SAME_THREAD,
+
+	/**
+	 * Allow concurrent execution with any other tests that are also
+	 * declared to run concurrently.
+	 */
+	CONCURRENT
+
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.api;
+
+/**
+ * The access mode required by a test class or test method for a given
+ * resource declared via {@link ResourceLock @ResourceLock}.
+ *
+ * @since 5.0
+ * @see ResourceLock
+ */
+public enum ResourceAccessMode {
+
+	/**
+	 * Require read and write access to the resource, i.e. exclusive access.
+	 */
+	READ_WRITE,
+
+	/**
+	 * Require only read access to the resource, i.e. access that may be
+	 * shared with other tests that also only read the resource.
+	 */
+	READ
+
+}
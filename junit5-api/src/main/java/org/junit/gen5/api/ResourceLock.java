@@ -0,0 +1,54 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.api;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@code @ResourceLock} is a {@linkplain Repeatable repeatable} annotation
+ * that is used to declare that the annotated test class or test method
+ * requires access to a shared resource identified by a key.
+ *
+ * <p>When tests are executed in parallel, tests that declare conflicting
+ * access to the same resource are never executed concurrently. Two
+ * declarations conflict unless both only require
+ * {@linkplain ResourceAccessMode#READ read} access. Tests that do not
+ * declare access to a common resource are not affected.
+ *
+ * @since 5.0
+ * @see ResourceLocks
+ * @see ResourceAccessMode
+ * @see Resources
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Repeatable(ResourceLocks.class)
+public @interface ResourceLock {
+
+	/**
+	 * The key identifying the shared resource.
+	 *
+	 * @see Resources
+	 */
+	String value();
+
+	/**
+	 * The access mode required for the shared resource.
+	 */
+	ResourceAccessMode mode() default ResourceAccessMode.READ_WRITE;
+
+}
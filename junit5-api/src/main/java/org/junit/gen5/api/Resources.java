@@ -0,0 +1,47 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.api;
+
+/**
+ * Common resource keys for use with {@link ResourceLock @ResourceLock}.
+ *
+ * @since 5.0
+ * @see ResourceLock
+ */
+public final class Resources {
+
+	/**
+	 * Represents Java's system properties: {@value}
+	 *
+	 * @see System#getProperties()
+	 * @see System#setProperty(String, String)
+	 */
+	public static final String SYSTEM_PROPERTIES = "java.lang.System.properties";
+
+	/**
+	 * Represents the standard output stream of the current process: {@value}
+	 *
+	 * @see System#setOut(java.io.PrintStream)
+	 */
+	public static final String SYSTEM_OUT = "java.lang.System.out";
+
+	/**
+	 * Represents the standard error stream of the current process: {@value}
+	 *
+	 * @see System#setErr(java.io.PrintStream)
+	 */
+	public static final String SYSTEM_ERR = "java.lang.System.err";
+
+	private Resources() {
+		/* no-op */
+	}
+
+}
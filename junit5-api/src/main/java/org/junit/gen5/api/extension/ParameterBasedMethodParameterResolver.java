@@ -0,0 +1,53 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.api.extension;
+
+import java.lang.reflect.Parameter;
+
+/**
+ * {@code ParameterBasedMethodParameterResolver} is a
+ * {@link MethodParameterResolver} whose support for a parameter depends
+ * solely on the {@link Parameter} itself, e.g. on its type or annotations,
+ * but not on the invocation or extension context.
+ *
+ * <p>This allows the engine to determine the resolvers for all parameters
+ * of a method only once and to merely invoke {@link #resolve} each time the
+ * method is invoked.
+ *
+ * @since 5.0
+ * @see MethodParameterResolver
+ */
+public interface ParameterBasedMethodParameterResolver extends MethodParameterResolver {
+
+	/**
+	 * Determine if this resolver supports resolution of the given
+	 * {@link Parameter}.
+	 *
+	 * <p>The result must be the same for every invocation with the same
+	 * parameter.
+	 *
+	 * @param parameter parameter to be resolved
+	 * @return {@code true} if this resolver can resolve the parameter
+	 * @see #resolve
+	 */
+	boolean supports(Parameter parameter) throws ParameterResolutionException;
+
+	/**
+	 * Delegates to {@link #supports(Parameter)}.
+	 */
+	@Override
+	default boolean supports(Parameter parameter, MethodInvocationContext methodInvocationContext,
+			ExtensionContext extensionContext) throws ParameterResolutionException {
+
+		return supports(parameter);
+	}
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.api.extension;
+
+import java.util.Optional;
+
+/**
+ * {@code TestInstanceFactory} defines the API for {@link TestExtension
+ * TestExtensions} that wish to <em>create</em> test instances instead of
+ * having the engine invoke the constructor of the test class.
+ *
+ * <p>Common use cases include obtaining test instances from a dependency
+ * injection container or reusing pre-built fixtures.
+ *
+ * <p>At most one {@code TestInstanceFactory} may be registered for a test
+ * class. Factories registered for individual test methods are not taken
+ * into account.
+ *
+ * <p>Implementations must provide a no-args constructor.
+ *
+ * @since 5.0
+ * @see InstancePostProcessor
+ */
+public interface TestInstanceFactory extends ExtensionPoint {
+
+	/**
+	 * Create an instance of the supplied test class.
+	 *
+	 * @param testClass the test class to instantiate
+	 * @param outerInstance the instance of the enclosing class if the test
+	 * class is a nested (non-static) class; otherwise empty
+	 * @param context the extension context of the test class
+	 * @return the new test instance; never {@code null}
+	 */
+	Object createTestInstance(Class<?> testClass, Optional<Object> outerInstance, ContainerExtensionContext context)
+			throws Exception;
+
+}
@@ -41,7 +41,8 @@ public class JUnit5TestEngine extends HierarchicalTestEngine<JUnit5EngineExecuti
 	}
 
 	private void resolveSpecification(TestPlanSpecification specification, JUnit5EngineDescriptor engineDescriptor) {
-		SpecificationResolver resolver = new SpecificationResolver(engineDescriptor);
+		SpecificationResolver resolver = new SpecificationResolver(engineDescriptor,
+			specification.getClasspathScanCache(), specification.getClassFilter());
 		for (TestPlanSpecificationElement element : specification) {
 			resolver.resolveElement(element);
 		}
@@ -10,11 +10,15 @@
 
 package org.junit.gen5.engine.junit5.descriptor;
 
+import static java.util.stream.Collectors.toList;
 import static org.junit.gen5.commons.util.AnnotationUtils.findAnnotatedMethods;
 import static org.junit.gen5.engine.junit5.descriptor.MethodInvocationContextFactory.methodInvocationContext;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
@@ -33,10 +37,12 @@ import org.junit.gen5.api.extension.ContainerExtensionContext;
 import org.junit.gen5.api.extension.ExtensionConfigurationException;
 import org.junit.gen5.api.extension.ExtensionPoint;
 import org.junit.gen5.api.extension.TestExtensionContext;
+import org.junit.gen5.api.extension.TestInstanceFactory;
 import org.junit.gen5.commons.util.Preconditions;
 import org.junit.gen5.commons.util.ReflectionUtils;
 import org.junit.gen5.commons.util.ReflectionUtils.MethodSortOrder;
 import org.junit.gen5.engine.Container;
+import org.junit.gen5.engine.ExclusiveResource;
 import org.junit.gen5.engine.JavaSource;
 import org.junit.gen5.engine.TestDescriptor;
 import org.junit.gen5.engine.TestTag;
@@ -45,6 +51,7 @@ import org.junit.gen5.engine.junit5.execution.JUnit5EngineExecutionContext;
 import org.junit.gen5.engine.junit5.execution.MethodInvoker;
 import org.junit.gen5.engine.junit5.execution.RegisteredExtensionPoint;
 import org.junit.gen5.engine.junit5.execution.TestExtensionRegistry;
+import org.junit.gen5.engine.junit5.execution.TestExtensionRegistry.ApplicationOrder;
 import org.junit.gen5.engine.junit5.execution.TestInstanceProvider;
 
 /**
@@ -61,11 +68,20 @@ public class ClassTestDescriptor extends JUnit5TestDescriptor implements Contain
 
 	private final Class<?> testClass;
 
+	private final Set<TestTag> tags;
+
+	/**
+	 * The constructor used to instantiate the test class, resolved on first
+	 * use and then reused for every test method.
+	 */
+	private volatile Constructor<?> testConstructor;
+
 	ClassTestDescriptor(String uniqueId, Class<?> testClass) {
 		super(uniqueId);
 
 		this.testClass = Preconditions.notNull(testClass, "Class must not be null");
 		this.displayName = determineDisplayName(testClass, testClass.getName());
+		this.tags = getTags(testClass);
 
 		setSource(new JavaSource(testClass));
 	}
@@ -86,7 +102,7 @@ public class ClassTestDescriptor extends JUnit5TestDescriptor implements Contain
 
 	@Override
 	public final Set<TestTag> getTags() {
-		return getTags(this.testClass);
+		return this.tags;
 	}
 
 	@Override
@@ -99,6 +115,16 @@ public class ClassTestDescriptor extends JUnit5TestDescriptor implements Contain
 		return true;
 	}
 
+	@Override
+	public ExecutionMode getExecutionMode() {
+		return determineExecutionMode(this.testClass);
+	}
+
+	@Override
+	public Set<ExclusiveResource> getExclusiveResources() {
+		return getExclusiveResources(this.testClass);
+	}
+
 	@Override
 	public JUnit5EngineExecutionContext prepare(JUnit5EngineExecutionContext context) {
 		TestExtensionRegistry newExtensionRegistry = populateNewTestExtensionRegistryFromExtendWith(testClass,
@@ -116,7 +142,7 @@ public class ClassTestDescriptor extends JUnit5TestDescriptor implements Contain
 
 		// @formatter:off
 		return context.extend()
-				.withTestInstanceProvider(testInstanceProvider(context))
+				.withTestInstanceProvider(testInstanceProvider(context, containerExtensionContext))
 				.withExtensionContext(containerExtensionContext)
 				.build();
 		// @formatter:on
@@ -154,8 +180,61 @@ public class ClassTestDescriptor extends JUnit5TestDescriptor implements Contain
 		return context;
 	}
 
-	protected TestInstanceProvider testInstanceProvider(JUnit5EngineExecutionContext context) {
-		return () -> ReflectionUtils.newInstance(testClass);
+	protected TestInstanceProvider testInstanceProvider(JUnit5EngineExecutionContext context,
+			ContainerExtensionContext containerExtensionContext) {
+
+		Optional<TestInstanceFactory> factory = findTestInstanceFactory(context.getTestExtensionRegistry());
+		return () -> instantiateTestClass(Optional.empty(), factory, containerExtensionContext);
+	}
+
+	/**
+	 * Instantiate the test class via the supplied {@link TestInstanceFactory}
+	 * if present; otherwise, via the {@linkplain #resolveTestConstructor
+	 * resolved constructor}, passing the outer instance if present.
+	 */
+	protected Object instantiateTestClass(Optional<Object> outerInstance, Optional<TestInstanceFactory> factory,
+			ContainerExtensionContext containerExtensionContext) throws Exception {
+
+		if (factory.isPresent()) {
+			return Preconditions.notNull(
+				factory.get().createTestInstance(this.testClass, outerInstance, containerExtensionContext),
+				() -> "TestInstanceFactory must not return null for " + this.testClass.getName());
+		}
+		Object[] args = outerInstance.isPresent() ? new Object[] { outerInstance.get() } : new Object[0];
+		return ReflectionUtils.newInstance(getTestConstructor(), args);
+	}
+
+	/**
+	 * Resolve the constructor used to instantiate the test class.
+	 *
+	 * <p>Invoked at most once per test class unless resolution fails.
+	 */
+	protected Constructor<?> resolveTestConstructor() throws NoSuchMethodException {
+		return this.testClass.getDeclaredConstructor();
+	}
+
+	private Constructor<?> getTestConstructor() throws NoSuchMethodException {
+		Constructor<?> constructor = this.testConstructor;
+		if (constructor == null) {
+			constructor = resolveTestConstructor();
+			this.testConstructor = constructor;
+		}
+		return constructor;
+	}
+
+	protected Optional<TestInstanceFactory> findTestInstanceFactory(TestExtensionRegistry registry) {
+		// @formatter:off
+		List<TestInstanceFactory> factories = registry.stream(TestInstanceFactory.class, ApplicationOrder.FORWARD)
+				.map(RegisteredExtensionPoint::getExtensionPoint)
+				.collect(toList());
+		// @formatter:on
+		if (factories.size() > 1) {
+			String message = String.format(
+				"Discovered multiple competing TestInstanceFactories for test class [%s]: %s",
+				this.testClass.getName(), factories);
+			throw new ExtensionConfigurationException(message);
+		}
+		return factories.stream().findFirst();
 	}
 
 	private void invokeBeforeAllExtensionPoints(TestExtensionRegistry newTestExtensionRegistry,
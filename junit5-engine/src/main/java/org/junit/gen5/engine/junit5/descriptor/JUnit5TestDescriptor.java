@@ -10,25 +10,38 @@
 
 package org.junit.gen5.engine.junit5.descriptor;
 
+import static java.util.Collections.emptySet;
 import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 import static org.junit.gen5.commons.util.AnnotationUtils.findAnnotation;
 import static org.junit.gen5.commons.util.AnnotationUtils.findRepeatableAnnotations;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.AnnotatedElement;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 
 import org.junit.gen5.api.DisplayName;
 import org.junit.gen5.api.Executable;
+import org.junit.gen5.api.Execution;
+import org.junit.gen5.api.ResourceAccessMode;
+import org.junit.gen5.api.ResourceLock;
 import org.junit.gen5.api.Tag;
 import org.junit.gen5.api.extension.ExtendWith;
 import org.junit.gen5.api.extension.TestExtension;
 import org.junit.gen5.commons.util.ExceptionUtils;
 import org.junit.gen5.commons.util.StringUtils;
 import org.junit.gen5.engine.AbstractTestDescriptor;
+import org.junit.gen5.engine.ExclusiveResource;
+import org.junit.gen5.engine.ExclusiveResource.LockMode;
+import org.junit.gen5.engine.Node;
+import org.junit.gen5.engine.Node.ExecutionMode;
 import org.junit.gen5.engine.TestTag;
 import org.junit.gen5.engine.junit5.execution.TestExtensionRegistry;
 
@@ -37,20 +50,45 @@ import org.junit.gen5.engine.junit5.execution.TestExtensionRegistry;
  */
 public abstract class JUnit5TestDescriptor extends AbstractTestDescriptor {
 
+	// Interned instances are only weakly referenced, so they are released
+	// together with the last test plan that uses them.
+	private static final Interner<TestTag> TAGS = new Interner<>();
+
+	private static final Interner<Set<TestTag>> TAG_SETS = new Interner<>();
+
 	protected JUnit5TestDescriptor(String uniqueId) {
 		super(uniqueId);
 	}
 
+	/**
+	 * Determine the {@linkplain TestTag tags} declared via {@link Tag @Tag} on
+	 * the supplied element.
+	 *
+	 * <p>The returned set is {@linkplain #internTags interned} and immutable.
+	 */
 	protected Set<TestTag> getTags(AnnotatedElement element) {
 		// @formatter:off
-		return findRepeatableAnnotations(element, Tag.class).stream()
+		return internTags(findRepeatableAnnotations(element, Tag.class).stream()
 				.map(Tag::value)
 				.filter(StringUtils::isNotBlank)
-				.map(TestTag::new)
-				.collect(toCollection(LinkedHashSet::new));
+				.map(tagName -> TAGS.intern(new TestTag(tagName)))
+				.collect(toCollection(LinkedHashSet::new)));
 		// @formatter:on
 	}
 
+	/**
+	 * Get an immutable set that is equal to the supplied set of tags and
+	 * shared by all descriptors with the same tags.
+	 *
+	 * <p>The supplied set must not be modified afterwards.
+	 */
+	protected static Set<TestTag> internTags(Set<TestTag> tags) {
+		if (tags.isEmpty()) {
+			return emptySet();
+		}
+		return TAG_SETS.intern(Collections.unmodifiableSet(tags));
+	}
+
 	protected String determineDisplayName(AnnotatedElement element, String defaultName) {
 		// @formatter:off
 		return findAnnotation(element, DisplayName.class)
@@ -60,15 +98,65 @@ public abstract class JUnit5TestDescriptor extends AbstractTestDescriptor {
 		// @formatter:on
 	}
 
+	/**
+	 * Determine the {@link ExecutionMode} declared via {@link Execution @Execution}
+	 * on the supplied element, falling back to the execution mode of the parent
+	 * node if the element is not annotated.
+	 */
+	protected ExecutionMode determineExecutionMode(AnnotatedElement element) {
+		// @formatter:off
+		return findAnnotation(element, Execution.class)
+				.map(execution -> ExecutionMode.valueOf(execution.value().name()))
+				.orElseGet(() -> getParent()
+						.filter(Node.class::isInstance)
+						.map(parent -> ((Node<?>) parent).getExecutionMode())
+						.orElse(ExecutionMode.CONCURRENT));
+		// @formatter:on
+	}
+
+	/**
+	 * Determine the {@link ExclusiveResource ExclusiveResources} declared via
+	 * {@link ResourceLock @ResourceLock} on the supplied element.
+	 */
+	protected Set<ExclusiveResource> getExclusiveResources(AnnotatedElement element) {
+		// @formatter:off
+		return findRepeatableAnnotations(element, ResourceLock.class).stream()
+				.map(resourceLock -> new ExclusiveResource(resourceLock.value(), toLockMode(resourceLock.mode())))
+				.collect(toSet());
+		// @formatter:on
+	}
+
+	private static LockMode toLockMode(ResourceAccessMode mode) {
+		return mode == ResourceAccessMode.READ ? LockMode.READ : LockMode.READ_WRITE;
+	}
+
 	protected TestExtensionRegistry populateNewTestExtensionRegistryFromExtendWith(AnnotatedElement annotatedElement,
 			TestExtensionRegistry existingTestExtensionRegistry) {
+		return TestExtensionRegistry.newRegistryFrom(existingTestExtensionRegistry,
+			findExtensionTypes(annotatedElement));
+	}
+
+	/**
+	 * Create a new {@link TestExtensionRegistry} populated with the extensions
+	 * declared via {@link ExtendWith @ExtendWith} on the supplied element, or
+	 * reuse the existing registry if the element does not declare any.
+	 */
+	protected TestExtensionRegistry populateTestExtensionRegistryFromExtendWithIfNecessary(
+			AnnotatedElement annotatedElement, TestExtensionRegistry existingTestExtensionRegistry) {
+		List<Class<? extends TestExtension>> extensionClasses = findExtensionTypes(annotatedElement);
+		if (extensionClasses.isEmpty()) {
+			return existingTestExtensionRegistry;
+		}
+		return TestExtensionRegistry.newRegistryFrom(existingTestExtensionRegistry, extensionClasses);
+	}
+
+	private static List<Class<? extends TestExtension>> findExtensionTypes(AnnotatedElement annotatedElement) {
 		// @formatter:off
-		List<Class<? extends TestExtension>> extensionClasses = findRepeatableAnnotations(annotatedElement, ExtendWith.class).stream()
+		return findRepeatableAnnotations(annotatedElement, ExtendWith.class).stream()
 				.map(ExtendWith::value)
 				.flatMap(Arrays::stream)
 				.collect(toList());
 		// @formatter:on
-		return TestExtensionRegistry.newRegistryFrom(existingTestExtensionRegistry, extensionClasses);
 	}
 
 	/**
@@ -88,4 +176,22 @@ public abstract class JUnit5TestDescriptor extends AbstractTestDescriptor {
 		}
 	}
 
+	/**
+	 * Canonicalizes equal instances while holding them only weakly.
+	 */
+	private static final class Interner<T> {
+
+		private final Map<T, WeakReference<T>> instances = new WeakHashMap<>();
+
+		synchronized T intern(T instance) {
+			WeakReference<T> reference = this.instances.get(instance);
+			T existing = reference != null ? reference.get() : null;
+			if (existing != null) {
+				return existing;
+			}
+			this.instances.put(instance, new WeakReference<>(instance));
+			return instance;
+		}
+	}
+
 }
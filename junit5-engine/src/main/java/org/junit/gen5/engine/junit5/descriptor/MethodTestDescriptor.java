@@ -13,6 +13,7 @@ package org.junit.gen5.engine.junit5.descriptor;
 import static org.junit.gen5.engine.junit5.descriptor.MethodInvocationContextFactory.methodInvocationContext;
 
 import java.lang.reflect.Method;
+import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.function.Consumer;
 
@@ -24,6 +25,7 @@ import org.junit.gen5.api.extension.MethodInvocationContext;
 import org.junit.gen5.api.extension.TestExtensionContext;
 import org.junit.gen5.commons.util.Preconditions;
 import org.junit.gen5.commons.util.StringUtils;
+import org.junit.gen5.engine.ExclusiveResource;
 import org.junit.gen5.engine.JavaSource;
 import org.junit.gen5.engine.Leaf;
 import org.junit.gen5.engine.TestDescriptor;
@@ -47,21 +49,42 @@ public class MethodTestDescriptor extends JUnit5TestDescriptor implements Leaf<J
 
 	private final Method testMethod;
 
+	private final Set<TestTag> methodTags;
+
+	/**
+	 * Tags of the method merged with those of {@link #tagsParent}, computed
+	 * lazily since the parent is only known once this descriptor has been
+	 * added to the hierarchy.
+	 */
+	private volatile Set<TestTag> tags;
+
+	private TestDescriptor tagsParent;
+
 	MethodTestDescriptor(String uniqueId, Class<?> testClass, Method testMethod) {
 		super(uniqueId);
 
 		this.testClass = Preconditions.notNull(testClass, "Class must not be null");
 		this.testMethod = Preconditions.notNull(testMethod, "Method must not be null");
 		this.displayName = determineDisplayName(testMethod, testMethod.getName());
+		this.methodTags = getTags(testMethod);
 
 		setSource(new JavaSource(testMethod));
 	}
 
 	@Override
 	public final Set<TestTag> getTags() {
-		Set<TestTag> methodTags = getTags(getTestMethod());
-		getParent().ifPresent(parentDescriptor -> methodTags.addAll(parentDescriptor.getTags()));
-		return methodTags;
+		TestDescriptor parent = getParent().orElse(null);
+		Set<TestTag> tags = this.tags;
+		if (tags == null || this.tagsParent != parent) {
+			Set<TestTag> mergedTags = new LinkedHashSet<>(this.methodTags);
+			if (parent != null) {
+				mergedTags.addAll(parent.getTags());
+			}
+			tags = internTags(mergedTags);
+			this.tagsParent = parent;
+			this.tags = tags;
+		}
+		return tags;
 	}
 
 	@Override
@@ -101,10 +124,20 @@ public class MethodTestDescriptor extends JUnit5TestDescriptor implements Leaf<J
 		return false;
 	}
 
+	@Override
+	public ExecutionMode getExecutionMode() {
+		return determineExecutionMode(this.testMethod);
+	}
+
+	@Override
+	public Set<ExclusiveResource> getExclusiveResources() {
+		return getExclusiveResources(this.testMethod);
+	}
+
 	@Override
 	public JUnit5EngineExecutionContext prepare(JUnit5EngineExecutionContext context) throws Exception {
-		TestExtensionRegistry testExtensionRegistry = populateNewTestExtensionRegistryFromExtendWith(testMethod,
-			context.getTestExtensionRegistry());
+		TestExtensionRegistry testExtensionRegistry = populateTestExtensionRegistryFromExtendWithIfNecessary(
+			testMethod, context.getTestExtensionRegistry());
 		Object testInstance = context.getTestInstanceProvider().getTestInstance();
 		TestExtensionContext testExtensionContext = new MethodBasedTestExtensionContext(context.getExtensionContext(),
 			context.getExecutionListener(), this, testInstance);
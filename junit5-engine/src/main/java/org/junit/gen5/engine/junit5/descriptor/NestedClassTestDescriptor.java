@@ -10,7 +10,11 @@
 
 package org.junit.gen5.engine.junit5.descriptor;
 
-import org.junit.gen5.commons.util.ReflectionUtils;
+import java.lang.reflect.Constructor;
+import java.util.Optional;
+
+import org.junit.gen5.api.extension.ContainerExtensionContext;
+import org.junit.gen5.api.extension.TestInstanceFactory;
 import org.junit.gen5.engine.TestDescriptor;
 import org.junit.gen5.engine.junit5.execution.JUnit5EngineExecutionContext;
 import org.junit.gen5.engine.junit5.execution.TestInstanceProvider;
@@ -30,11 +34,20 @@ public class NestedClassTestDescriptor extends ClassTestDescriptor {
 	}
 
 	@Override
-	protected TestInstanceProvider testInstanceProvider(JUnit5EngineExecutionContext context) {
+	protected TestInstanceProvider testInstanceProvider(JUnit5EngineExecutionContext context,
+			ContainerExtensionContext containerExtensionContext) {
+
+		TestInstanceProvider outerInstanceProvider = context.getTestInstanceProvider();
+		Optional<TestInstanceFactory> factory = findTestInstanceFactory(context.getTestExtensionRegistry());
 		return () -> {
-			Object outerInstance = context.getTestInstanceProvider().getTestInstance();
-			return ReflectionUtils.newInstance(getTestClass(), outerInstance);
+			Object outerInstance = outerInstanceProvider.getTestInstance();
+			return instantiateTestClass(Optional.of(outerInstance), factory, containerExtensionContext);
 		};
 	}
 
+	@Override
+	protected Constructor<?> resolveTestConstructor() throws NoSuchMethodException {
+		return getTestClass().getDeclaredConstructor(getTestClass().getEnclosingClass());
+	}
+
 }
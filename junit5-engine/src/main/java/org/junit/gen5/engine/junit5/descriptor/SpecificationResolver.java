@@ -17,8 +17,12 @@ import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Optional;
 
+import org.junit.gen5.commons.util.ClassFileReferenceFilter;
 import org.junit.gen5.commons.util.ReflectionUtils;
 import org.junit.gen5.engine.AbstractTestDescriptor;
+import org.junit.gen5.engine.ClassFilter;
+import org.junit.gen5.engine.ClassFilters;
+import org.junit.gen5.engine.ClasspathScanCache;
 import org.junit.gen5.engine.TestDescriptor;
 import org.junit.gen5.engine.TestPlanSpecificationElement;
 import org.junit.gen5.engine.TestPlanSpecificationElementVisitor;
@@ -37,8 +41,27 @@ public class SpecificationResolver {
 	private final IsTestMethod isTestMethod = new IsTestMethod();
 	private final IsScannableTestClass isScannableTestClass = new IsScannableTestClass();
 
+	// Only classes that (indirectly) reference JUnit types need to be loaded.
+	private final ClassFileReferenceFilter classFileFilter = ClassFileReferenceFilter.referencing("junit/");
+
+	private final ClasspathScanCache classpathScanCache;
+
+	private final ClassFilter classFilter;
+
 	public SpecificationResolver(JUnit5EngineDescriptor engineDescriptor) {
+		this(engineDescriptor, new ClasspathScanCache(), ClassFilters.anyClass());
+	}
+
+	/**
+	 * Create a resolver that scans the classpath via the supplied cache and
+	 * skips classes whose names the supplied {@code classFilter} rejects
+	 * without loading them.
+	 */
+	public SpecificationResolver(JUnit5EngineDescriptor engineDescriptor, ClasspathScanCache classpathScanCache,
+			ClassFilter classFilter) {
 		this.engineDescriptor = engineDescriptor;
+		this.classpathScanCache = classpathScanCache;
+		this.classFilter = classFilter;
 	}
 
 	public void resolveElement(TestPlanSpecificationElement element) {
@@ -61,13 +84,14 @@ public class SpecificationResolver {
 
 			@Override
 			public void visitPackage(String packageName) {
-				findAllClassesInPackage(packageName, isScannableTestClass).stream().forEach(this::visitClass);
+				classpathScanCache.findAllClassesInPackage(packageName, classFilter, classFileFilter,
+					isScannableTestClass).forEach(this::visitClass);
 			}
 
 			@Override
 			public void visitAllTests(File rootDirectory) {
-				ReflectionUtils.findAllClassesInClasspathRoot(rootDirectory, isScannableTestClass).stream().forEach(
-					this::visitClass);
+				classpathScanCache.findAllClassesInClasspathRoot(rootDirectory, classFilter, classFileFilter,
+					isScannableTestClass).forEach(this::visitClass);
 			}
 		});
 	}
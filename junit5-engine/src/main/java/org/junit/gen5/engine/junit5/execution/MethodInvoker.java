@@ -12,9 +12,9 @@ package org.junit.gen5.engine.junit5.execution;
 
 import static java.util.stream.Collectors.joining;
 
+import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 import org.junit.gen5.api.extension.ExtensionContext;
@@ -22,17 +22,23 @@ import org.junit.gen5.api.extension.MethodInvocationContext;
 import org.junit.gen5.api.extension.MethodParameterResolver;
 import org.junit.gen5.api.extension.ParameterResolutionException;
 import org.junit.gen5.commons.util.ReflectionUtils;
-import org.junit.gen5.engine.junit5.execution.TestExtensionRegistry.ApplicationOrder;
+import org.junit.gen5.engine.junit5.execution.ParameterResolutionPlan.Candidate;
 
 /**
  * {@code MethodInvoker} encapsulates the invocation of a method, including
  * support for dynamic resolution of method parameters via
  * {@link MethodParameterResolver MethodParameterResolvers}.
  *
+ * <p>The candidate resolvers for the parameters of a method are taken from
+ * the {@link ParameterResolutionPlan} cached by the
+ * {@link TestExtensionRegistry}.
+ *
  * @since 5.0
  */
 public class MethodInvoker {
 
+	private static final Object[] NO_ARGUMENTS = new Object[0];
+
 	private final ExtensionContext extensionContext;
 
 	private final TestExtensionRegistry extensionRegistry;
@@ -55,24 +61,30 @@ public class MethodInvoker {
 	 */
 	private Object[] resolveParameters(MethodInvocationContext methodInvocationContext)
 			throws ParameterResolutionException {
-		// @formatter:off
-		return Arrays.stream(methodInvocationContext.getMethod().getParameters())
-				.map(param -> resolveParameter(param, methodInvocationContext))
-				.toArray(Object[]::new);
-		// @formatter:on
+
+		Method method = methodInvocationContext.getMethod();
+		if (method.getParameterCount() == 0) {
+			return NO_ARGUMENTS;
+		}
+		ParameterResolutionPlan plan = this.extensionRegistry.getParameterResolutionPlan(method);
+		Parameter[] parameters = plan.getParameters();
+		Object[] values = new Object[parameters.length];
+		for (int i = 0; i < parameters.length; i++) {
+			values[i] = resolveParameter(parameters[i], plan.getCandidates(i), methodInvocationContext);
+		}
+		return values;
 	}
 
-	private Object resolveParameter(Parameter parameter, MethodInvocationContext methodInvocationContext)
-			throws ParameterResolutionException {
+	private Object resolveParameter(Parameter parameter, List<Candidate> candidates,
+			MethodInvocationContext methodInvocationContext) throws ParameterResolutionException {
 
 		try {
-			final List<MethodParameterResolver> matchingResolvers = new ArrayList<>();
-			extensionRegistry.stream(MethodParameterResolver.class, ApplicationOrder.FORWARD).forEach(
-				registeredExtensionPoint -> {
-					if (registeredExtensionPoint.getExtensionPoint().supports(parameter, methodInvocationContext,
-						extensionContext))
-						matchingResolvers.add(registeredExtensionPoint.getExtensionPoint());
-				});
+			List<MethodParameterResolver> matchingResolvers = new ArrayList<>(1);
+			for (Candidate candidate : candidates) {
+				if (candidate.supports(parameter, methodInvocationContext, extensionContext)) {
+					matchingResolvers.add(candidate.getResolver());
+				}
+			}
 
 			if (matchingResolvers.size() == 0) {
 				throw new ParameterResolutionException(
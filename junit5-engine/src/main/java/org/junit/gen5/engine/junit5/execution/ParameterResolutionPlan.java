@@ -0,0 +1,114 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.engine.junit5.execution;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.gen5.api.extension.ExtensionContext;
+import org.junit.gen5.api.extension.MethodInvocationContext;
+import org.junit.gen5.api.extension.MethodParameterResolver;
+import org.junit.gen5.api.extension.ParameterBasedMethodParameterResolver;
+
+/**
+ * {@code ParameterResolutionPlan} holds the candidate
+ * {@link MethodParameterResolver MethodParameterResolvers} for each parameter
+ * of a {@link Method}.
+ *
+ * <p>{@link ParameterBasedMethodParameterResolver ParameterBasedMethodParameterResolvers}
+ * are asked only once, when the plan is created: resolvers that do not
+ * support a parameter are omitted, and resolvers that do are not asked
+ * again. All other resolvers remain candidates that are asked on each
+ * invocation.
+ *
+ * @since 5.0
+ * @see TestExtensionRegistry#getParameterResolutionPlan(Method)
+ */
+final class ParameterResolutionPlan {
+
+	private final Parameter[] parameters;
+
+	private final List<List<Candidate>> candidates;
+
+	ParameterResolutionPlan(Method method, List<RegisteredExtensionPoint<MethodParameterResolver>> resolvers) {
+		this.parameters = method.getParameters();
+		List<List<Candidate>> candidates = new ArrayList<>(this.parameters.length);
+		for (Parameter parameter : this.parameters) {
+			List<Candidate> candidatesForParameter = new ArrayList<>();
+			for (RegisteredExtensionPoint<MethodParameterResolver> resolver : resolvers) {
+				Candidate candidate = Candidate.of(resolver.getExtensionPoint(), parameter);
+				if (candidate != null) {
+					candidatesForParameter.add(candidate);
+				}
+			}
+			candidates.add(Collections.unmodifiableList(candidatesForParameter));
+		}
+		this.candidates = Collections.unmodifiableList(candidates);
+	}
+
+	Parameter[] getParameters() {
+		return this.parameters;
+	}
+
+	/**
+	 * Get the candidate resolvers for the parameter at the supplied index,
+	 * in the order in which they are to be applied.
+	 */
+	List<Candidate> getCandidates(int parameterIndex) {
+		return this.candidates.get(parameterIndex);
+	}
+
+	static final class Candidate {
+
+		private final MethodParameterResolver resolver;
+
+		private final boolean supportsParameter;
+
+		/**
+		 * Create a candidate for the supplied resolver and parameter, or return
+		 * {@code null} if the resolver is known not to support the parameter.
+		 */
+		static Candidate of(MethodParameterResolver resolver, Parameter parameter) {
+			if (resolver instanceof ParameterBasedMethodParameterResolver) {
+				try {
+					if (!((ParameterBasedMethodParameterResolver) resolver).supports(parameter)) {
+						return null;
+					}
+					return new Candidate(resolver, true);
+				}
+				catch (Throwable ex) {
+					// Ask again on invocation so the failure is reported for
+					// the parameter being resolved.
+				}
+			}
+			return new Candidate(resolver, false);
+		}
+
+		private Candidate(MethodParameterResolver resolver, boolean supportsParameter) {
+			this.resolver = resolver;
+			this.supportsParameter = supportsParameter;
+		}
+
+		MethodParameterResolver getResolver() {
+			return this.resolver;
+		}
+
+		boolean supports(Parameter parameter, MethodInvocationContext methodInvocationContext,
+				ExtensionContext extensionContext) {
+			return this.supportsParameter || this.resolver.supports(parameter, methodInvocationContext,
+				extensionContext);
+		}
+	}
+
+}
@@ -10,6 +10,7 @@
 
 package org.junit.gen5.engine.junit5.execution;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -17,12 +18,15 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Stream;
 
 import org.junit.gen5.api.extension.ExtensionPoint;
 import org.junit.gen5.api.extension.ExtensionPoint.Position;
 import org.junit.gen5.api.extension.ExtensionRegistrar;
 import org.junit.gen5.api.extension.ExtensionRegistry;
+import org.junit.gen5.api.extension.MethodParameterResolver;
 import org.junit.gen5.api.extension.TestExtension;
 import org.junit.gen5.commons.util.ReflectionUtils;
 import org.junit.gen5.engine.junit5.extension.*;
@@ -38,6 +42,12 @@ import org.junit.gen5.engine.junit5.extension.TestInfoParameterResolver;
  * performed first in the current registry itself and then in its parent and
  * thereby all its ancestors.
  *
+ * <p>Lookups operate on an immutable, flattened snapshot of the registry
+ * and its ancestors instead of walking the parent chain. A registry without
+ * registrations of its own shares the snapshot of its parent, including the
+ * cached, sorted extension points of each type. A snapshot is rebuilt only
+ * after a registration in the registry or one of its ancestors.
+ *
  * <p>Do not confuse this engine-specific {@code TestExtensionRegistry} with
  * the {@link ExtensionRegistry} which is used by an {@link ExtensionRegistrar}.
  *
@@ -84,6 +94,12 @@ public class TestExtensionRegistry {
 
 	private final Optional<TestExtensionRegistry> parent;
 
+	/**
+	 * Flattened view of this registry and its ancestors; {@code null} if it
+	 * needs to be rebuilt due to a registration in this registry.
+	 */
+	private volatile Snapshot snapshot;
+
 	public TestExtensionRegistry() {
 		this(null);
 	}
@@ -103,28 +119,28 @@ public class TestExtensionRegistry {
 	 * @return all extension types registered in this registry or one of its ancestors
 	 */
 	Set<Class<? extends TestExtension>> getRegisteredExtensionTypes() {
-		Set<Class<? extends TestExtension>> allRegisteredExtensionTypes = new LinkedHashSet<>();
-		this.parent.ifPresent(
-			parentRegistry -> allRegisteredExtensionTypes.addAll(parentRegistry.getRegisteredExtensionTypes()));
-		allRegisteredExtensionTypes.addAll(this.registeredExtensionTypes);
-		return Collections.unmodifiableSet(allRegisteredExtensionTypes);
+		return getSnapshot().extensionTypes;
 	}
 
-	@SuppressWarnings("unchecked")
-	private <E extends ExtensionPoint> List<RegisteredExtensionPoint<E>> getRegisteredExtensionPoints(
-			Class<E> extensionType) {
-
-		List<RegisteredExtensionPoint<E>> allExtensionPoints = new ArrayList<>();
-		this.parent.ifPresent(
-			parentRegistry -> allExtensionPoints.addAll(parentRegistry.getRegisteredExtensionPoints(extensionType)));
-
-		// @formatter:off
-		this.registeredExtensionPoints.stream()
-				.filter(registeredExtensionPoint -> extensionType.isAssignableFrom(registeredExtensionPoint.getExtensionPoint().getClass()))
-				.forEach(extensionPoint -> allExtensionPoints.add((RegisteredExtensionPoint<E>) extensionPoint));
-		// @formatter:on
-
-		return allExtensionPoints;
+	/**
+	 * Get the flattened view of this registry and its ancestors.
+	 *
+	 * <p>A registry without registrations of its own shares the view of its
+	 * parent. Otherwise, the view is rebuilt only if this registry or one of
+	 * its ancestors has changed since it was last built.
+	 */
+	private Snapshot getSnapshot() {
+		Snapshot parentSnapshot = this.parent.isPresent() ? this.parent.get().getSnapshot() : Snapshot.EMPTY;
+		if (this.registeredExtensionTypes.isEmpty() && this.registeredExtensionPoints.isEmpty()) {
+			return parentSnapshot;
+		}
+		Snapshot currentSnapshot = this.snapshot;
+		if (currentSnapshot == null || currentSnapshot.parentSnapshot != parentSnapshot) {
+			currentSnapshot = new Snapshot(parentSnapshot, this.registeredExtensionTypes,
+				this.registeredExtensionPoints);
+			this.snapshot = currentSnapshot;
+		}
+		return currentSnapshot;
 	}
 
 	/**
@@ -137,12 +153,23 @@ public class TestExtensionRegistry {
 	public <E extends ExtensionPoint> Stream<RegisteredExtensionPoint<E>> stream(Class<E> extensionType,
 			ApplicationOrder order) {
 
-		List<RegisteredExtensionPoint<E>> registeredExtensionPoints = getRegisteredExtensionPoints(extensionType);
-		new ExtensionPointSorter().sort(registeredExtensionPoints);
-		if (order == ApplicationOrder.BACKWARD) {
-			Collections.reverse(registeredExtensionPoints);
+		return getSnapshot().getSortedExtensionPoints(extensionType, order).stream();
+	}
+
+	/**
+	 * Get the {@link ParameterResolutionPlan} for the supplied method based on
+	 * the {@link MethodParameterResolver MethodParameterResolvers} registered
+	 * in this registry or one of its ancestors.
+	 */
+	ParameterResolutionPlan getParameterResolutionPlan(Method method) {
+		Snapshot currentSnapshot = getSnapshot();
+		ParameterResolutionPlan plan = currentSnapshot.parameterResolutionPlans.get(method);
+		if (plan == null) {
+			plan = new ParameterResolutionPlan(method,
+				currentSnapshot.getSortedExtensionPoints(MethodParameterResolver.class, ApplicationOrder.FORWARD));
+			currentSnapshot.parameterResolutionPlans.put(method, plan);
 		}
-		return registeredExtensionPoints.stream();
+		return plan;
 	}
 
 	/**
@@ -159,14 +186,15 @@ public class TestExtensionRegistry {
 	 */
 	void registerExtension(Class<? extends TestExtension> extensionType) {
 
-		boolean extensionAlreadyRegistered = getRegisteredExtensionTypes().stream().anyMatch(
-			registeredType -> registeredType.equals(extensionType));
+		boolean extensionAlreadyRegistered = this.registeredExtensionTypes.contains(extensionType)
+				|| (this.parent.isPresent() && this.parent.get().getRegisteredExtensionTypes().contains(extensionType));
 
 		if (!extensionAlreadyRegistered) {
 			TestExtension testExtension = ReflectionUtils.newInstance(extensionType);
 			registerExtensionPoint(testExtension);
 			registerExtensionPointsFromRegistrar(testExtension);
 			this.registeredExtensionTypes.add(extensionType);
+			this.snapshot = null;
 		}
 	}
 
@@ -183,6 +211,7 @@ public class TestExtensionRegistry {
 
 	void registerExtensionPoint(ExtensionPoint extension, Position position) {
 		this.registeredExtensionPoints.add(new RegisteredExtensionPoint<>(extension, position));
+		this.snapshot = null;
 	}
 
 	private void registerExtensionPointsFromRegistrar(TestExtension testExtension) {
@@ -192,6 +221,85 @@ public class TestExtensionRegistry {
 		}
 	}
 
+	/**
+	 * Immutable, flattened view of the extension types and extension points
+	 * registered in a registry and all its ancestors, along with the sorted
+	 * extension points of each type and the parameter resolution plans of
+	 * each method that have been looked up so far.
+	 */
+	private static final class Snapshot {
+
+		static final Snapshot EMPTY = new Snapshot(null, Collections.emptySet(), Collections.emptyList());
+
+		private final Snapshot parentSnapshot;
+
+		private final Set<Class<? extends TestExtension>> extensionTypes;
+
+		private final List<RegisteredExtensionPoint<?>> extensionPoints;
+
+		private final ConcurrentMap<Class<?>, SortedExtensionPoints> sortedExtensionPointsCache = //
+			new ConcurrentHashMap<>();
+
+		private final ConcurrentMap<Method, ParameterResolutionPlan> parameterResolutionPlans = //
+			new ConcurrentHashMap<>();
+
+		Snapshot(Snapshot parentSnapshot, Set<Class<? extends TestExtension>> registeredExtensionTypes,
+				List<RegisteredExtensionPoint<?>> registeredExtensionPoints) {
+
+			this.parentSnapshot = parentSnapshot;
+			Set<Class<? extends TestExtension>> extensionTypes = new LinkedHashSet<>();
+			List<RegisteredExtensionPoint<?>> extensionPoints = new ArrayList<>();
+			if (parentSnapshot != null) {
+				extensionTypes.addAll(parentSnapshot.extensionTypes);
+				extensionPoints.addAll(parentSnapshot.extensionPoints);
+			}
+			extensionTypes.addAll(registeredExtensionTypes);
+			extensionPoints.addAll(registeredExtensionPoints);
+			this.extensionTypes = Collections.unmodifiableSet(extensionTypes);
+			this.extensionPoints = Collections.unmodifiableList(extensionPoints);
+		}
+
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		<E extends ExtensionPoint> List<RegisteredExtensionPoint<E>> getSortedExtensionPoints(Class<E> extensionType,
+				ApplicationOrder order) {
+
+			SortedExtensionPoints sortedExtensionPoints = this.sortedExtensionPointsCache.get(extensionType);
+			if (sortedExtensionPoints == null) {
+				List<RegisteredExtensionPoint<E>> matchingExtensionPoints = new ArrayList<>();
+				for (RegisteredExtensionPoint<?> registeredExtensionPoint : this.extensionPoints) {
+					if (extensionType.isAssignableFrom(registeredExtensionPoint.getExtensionPoint().getClass())) {
+						matchingExtensionPoints.add((RegisteredExtensionPoint<E>) registeredExtensionPoint);
+					}
+				}
+				new ExtensionPointSorter().sort(matchingExtensionPoints);
+				sortedExtensionPoints = new SortedExtensionPoints((List) matchingExtensionPoints);
+				this.sortedExtensionPointsCache.put(extensionType, sortedExtensionPoints);
+			}
+			return (List) (order == ApplicationOrder.BACKWARD ? sortedExtensionPoints.backward
+					: sortedExtensionPoints.forward);
+		}
+	}
+
+	/**
+	 * Extension points of one type, sorted in both application orders.
+	 */
+	private static final class SortedExtensionPoints {
+
+		private final List<RegisteredExtensionPoint<?>> forward;
+
+		private final List<RegisteredExtensionPoint<?>> backward;
+
+		SortedExtensionPoints(List<RegisteredExtensionPoint<?>> sortedExtensionPoints) {
+			RegisteredExtensionPoint<?>[] forward = sortedExtensionPoints.toArray(new RegisteredExtensionPoint<?>[0]);
+			RegisteredExtensionPoint<?>[] backward = new RegisteredExtensionPoint<?>[forward.length];
+			for (int i = 0; i < forward.length; i++) {
+				backward[i] = forward[forward.length - 1 - i];
+			}
+			this.forward = Collections.unmodifiableList(Arrays.asList(forward));
+			this.backward = Collections.unmodifiableList(Arrays.asList(backward));
+		}
+	}
+
 	/**
 	 * {@link ExtensionRegistry} which internally delegates to the enclosing
 	 * {@link TestExtensionRegistry}: used in order to allow an
@@ -16,6 +16,7 @@ import org.junit.gen5.api.TestInfo;
 import org.junit.gen5.api.extension.ExtensionContext;
 import org.junit.gen5.api.extension.MethodInvocationContext;
 import org.junit.gen5.api.extension.MethodParameterResolver;
+import org.junit.gen5.api.extension.ParameterBasedMethodParameterResolver;
 import org.junit.gen5.commons.util.ToStringBuilder;
 
 /**
@@ -24,12 +25,10 @@ import org.junit.gen5.commons.util.ToStringBuilder;
  *
  * @since 5.0
  */
-public class TestInfoParameterResolver implements MethodParameterResolver {
+public class TestInfoParameterResolver implements ParameterBasedMethodParameterResolver {
 
 	@Override
-	public boolean supports(Parameter parameter, MethodInvocationContext methodInvocationContext,
-			ExtensionContext extensionContext) {
-
+	public boolean supports(Parameter parameter) {
 		return (parameter.getType() == TestInfo.class);
 	}
 
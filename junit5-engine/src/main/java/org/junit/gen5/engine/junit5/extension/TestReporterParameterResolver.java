@@ -15,17 +15,17 @@ import java.lang.reflect.Parameter;
 import org.junit.gen5.api.extension.ExtensionContext;
 import org.junit.gen5.api.extension.MethodInvocationContext;
 import org.junit.gen5.api.extension.MethodParameterResolver;
+import org.junit.gen5.api.extension.ParameterBasedMethodParameterResolver;
 
 /**
  * {@link MethodParameterResolver} that injects a {@link TestReporter}.
  *
  * @since 5.0
  */
-public class TestReporterParameterResolver implements MethodParameterResolver {
+public class TestReporterParameterResolver implements ParameterBasedMethodParameterResolver {
 
 	@Override
-	public boolean supports(Parameter parameter, MethodInvocationContext methodInvocationContext,
-			ExtensionContext extensionContext) {
+	public boolean supports(Parameter parameter) {
 		return (parameter.getType() == TestReporter.class);
 	}
 
@@ -10,24 +10,43 @@
 
 package org.junit.gen5.surefire;
 
-import static org.junit.gen5.engine.TestPlanSpecification.build;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.StreamSupport;
 
 import org.apache.maven.surefire.providerapi.AbstractProvider;
 import org.apache.maven.surefire.providerapi.ProviderParameters;
 import org.apache.maven.surefire.report.ReporterException;
 import org.apache.maven.surefire.report.ReporterFactory;
 import org.apache.maven.surefire.report.RunListener;
-import org.apache.maven.surefire.report.SimpleReportEntry;
 import org.apache.maven.surefire.suite.RunResult;
 import org.apache.maven.surefire.testset.TestSetFailedException;
 import org.apache.maven.surefire.util.TestsToRun;
 import org.junit.gen5.engine.TestPlanSpecification;
+import org.junit.gen5.engine.TestPlanSpecificationElement;
 import org.junit.gen5.launcher.Launcher;
+import org.junit.gen5.launcher.TestIdentifier;
+import org.junit.gen5.launcher.TestPlan;
 
+/**
+ * Surefire provider that discovers the tests in all scanned classes at once
+ * and executes the resulting {@link TestPlan}.
+ *
+ * <p>Each test class is reported as a test set of its own.
+ *
+ * <p>In forked mode, {@link #getSuites()} returns the classes that contain
+ * tests so that surefire can distribute them across the fork JVMs. Each fork
+ * then {@linkplain #invoke invokes} this provider with the classes assigned
+ * to it, and the events are reported back through surefire's fork channel.
+ */
 public class JUnitGen5Provider extends AbstractProvider {
 
 	private final ProviderParameters parameters;
@@ -39,28 +58,47 @@ public class JUnitGen5Provider extends AbstractProvider {
 
 	@Override
 	public Iterable<Class<?>> getSuites() {
-		// TODO Implement this.
-		throw new UnsupportedOperationException("Forking is not yet supported.");
+		TestsToRun scannedClasses = scanClasspath();
+		TestPlan testPlan = new Launcher().discover(createSpecification(scannedClasses));
+		Set<Class<?>> classesWithTests = new HashSet<>();
+		for (TestIdentifier testSet : TestSets.of(testPlan)) {
+			TestSets.getJavaClass(testSet).ifPresent(classesWithTests::add);
+		}
+		List<Class<?>> suites = new ArrayList<>();
+		for (Class<?> testClass : scannedClasses) {
+			if (classesWithTests.contains(testClass)) {
+				suites.add(testClass);
+			}
+		}
+		return suites;
 	}
 
 	@Override
 	public RunResult invoke(Object forkTestSet)
 			throws TestSetFailedException, ReporterException, InvocationTargetException {
-		if (forkTestSet != null) {
-			// TODO Implement this.
-			throw new UnsupportedOperationException("Forking is not yet supported.");
-		}
-
 		Launcher launcher = new Launcher();
-		TestsToRun testsToRun = scanClasspath(launcher);
+		TestsToRun testsToRun = getTestsToRun(forkTestSet);
 		return invokeAllTests(testsToRun, launcher);
 	}
 
-	private TestsToRun scanClasspath(Launcher launcher) {
-		TestsToRun scannedClasses = parameters.getScanResult().applyFilter(new TestPlanScannerFilter(launcher),
+	private TestsToRun getTestsToRun(Object forkTestSet) throws TestSetFailedException {
+		if (forkTestSet instanceof TestsToRun) {
+			return (TestsToRun) forkTestSet;
+		}
+		if (forkTestSet instanceof Class) {
+			return TestsToRun.fromClass((Class<?>) forkTestSet);
+		}
+		if (forkTestSet == null) {
+			return scanClasspath();
+		}
+		throw new IllegalArgumentException("Unexpected value of fork test set: " + forkTestSet);
+	}
+
+	private TestsToRun scanClasspath() {
+		// Classes without tests are pruned from the test plan by the launcher.
+		TestsToRun scannedClasses = parameters.getScanResult().applyFilter(testClass -> true,
 			parameters.getTestClassLoader());
-		TestsToRun orderedClasses = parameters.getRunOrderCalculator().orderTestClasses(scannedClasses);
-		return orderedClasses;
+		return parameters.getRunOrderCalculator().orderTestClasses(scannedClasses);
 	}
 
 	private RunResult invokeAllTests(TestsToRun testsToRun, Launcher launcher) {
@@ -70,8 +108,15 @@ public class JUnitGen5Provider extends AbstractProvider {
 			RunListener runListener = reporterFactory.createReporter();
 			launcher.registerTestExecutionListeners(new RunListenerAdapter(runListener));
 
-			for (Class<?> testClass : testsToRun) {
-				invokeSingleClass(testClass, launcher, runListener);
+			if (testsToRun.allowEagerReading()) {
+				launcher.execute(launcher.discover(createSpecification(testsToRun)));
+			}
+			else {
+				// Reused forks receive one class at a time from the main process, which
+				// spreads the classes across all forks; reading ahead would defeat that.
+				for (Class<?> testClass : testsToRun) {
+					launcher.execute(launcher.discover(createSpecification(singletonList(testClass))));
+				}
 			}
 		}
 		finally {
@@ -80,14 +125,13 @@ public class JUnitGen5Provider extends AbstractProvider {
 		return runResult;
 	}
 
-	private void invokeSingleClass(Class<?> testClass, Launcher launcher, RunListener runListener) {
-		SimpleReportEntry classEntry = new SimpleReportEntry(getClass().getName(), testClass.getName());
-		runListener.testSetStarting(classEntry);
-
-		TestPlanSpecification specification = build(TestPlanSpecification.forClass(testClass));
-		launcher.execute(specification);
-
-		runListener.testSetCompleted(classEntry);
+	private TestPlanSpecification createSpecification(Iterable<Class<?>> testClasses) {
+		// @formatter:off
+		List<TestPlanSpecificationElement> elements = StreamSupport.stream(testClasses.spliterator(), false)
+				.map(TestPlanSpecification::forClass)
+				.collect(toList());
+		// @formatter:on
+		return TestPlanSpecification.build(elements);
 	}
 
 }
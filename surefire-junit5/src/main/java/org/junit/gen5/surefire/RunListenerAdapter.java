@@ -13,7 +13,9 @@ package org.junit.gen5.surefire;
 import static org.apache.maven.surefire.report.SimpleReportEntry.ignored;
 import static org.junit.gen5.engine.TestExecutionResult.Status.*;
 
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 
 import org.apache.maven.surefire.report.PojoStackTraceWriter;
 import org.apache.maven.surefire.report.RunListener;
@@ -22,25 +24,58 @@ import org.apache.maven.surefire.report.StackTraceWriter;
 import org.junit.gen5.engine.JavaSource;
 import org.junit.gen5.engine.TestExecutionResult;
 import org.junit.gen5.launcher.TestExecutionListener;
+import org.junit.gen5.launcher.TestId;
 import org.junit.gen5.launcher.TestIdentifier;
+import org.junit.gen5.launcher.TestPlan;
 
+/**
+ * Reports the execution of a {@link TestPlan} to a surefire {@link RunListener}.
+ *
+ * <p>Each of the {@linkplain TestSets test sets} of the test plan, i.e. usually
+ * each test class, is reported as a test set of its own.
+ *
+ * <p>Surefire expects one test set to be completed before the next one is
+ * started. That only holds if the test sets are executed one after another.
+ * If the {@code junit.execution.parallel.enabled} system property enables
+ * parallel execution of sibling nodes, or if {@linkplain
+ * org.junit.gen5.launcher.Launcher#setParallelEngineExecutionEnabled parallel
+ * engine execution} is enabled, the events of several test sets interleave
+ * and surefire may attribute tests to the wrong test set.
+ */
 final class RunListenerAdapter implements TestExecutionListener {
 
+	private final Set<TestId> testSetIds = new HashSet<>();
+
 	private RunListener runListener;
 
 	public RunListenerAdapter(RunListener reporter) {
 		this.runListener = reporter;
 	}
 
+	@Override
+	public void testPlanExecutionStarted(TestPlan testPlan) {
+		testSetIds.clear();
+		TestSets.of(testPlan).forEach(testSet -> testSetIds.add(testSet.getUniqueId()));
+	}
+
 	@Override
 	public void executionStarted(TestIdentifier testIdentifier) {
+		if (isTestSet(testIdentifier)) {
+			runListener.testSetStarting(createTestSetReportEntry(testIdentifier));
+		}
 		runListener.testStarting(createReportEntry(testIdentifier));
 	}
 
 	@Override
 	public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+		if (isTestSet(testIdentifier)) {
+			runListener.testSetStarting(createTestSetReportEntry(testIdentifier));
+		}
 		runListener.testSkipped(
 			ignored(getClassNameOrUniqueId(testIdentifier), testIdentifier.getDisplayName(), reason));
+		if (isTestSet(testIdentifier)) {
+			runListener.testSetCompleted(createTestSetReportEntry(testIdentifier));
+		}
 	}
 
 	@Override
@@ -54,6 +89,17 @@ final class RunListenerAdapter implements TestExecutionListener {
 		else {
 			runListener.testFailed(createReportEntry(testIdentifier, testExecutionResult.getThrowable()));
 		}
+		if (isTestSet(testIdentifier)) {
+			runListener.testSetCompleted(createTestSetReportEntry(testIdentifier));
+		}
+	}
+
+	private boolean isTestSet(TestIdentifier testIdentifier) {
+		return testSetIds.contains(testIdentifier.getUniqueId());
+	}
+
+	private SimpleReportEntry createTestSetReportEntry(TestIdentifier testIdentifier) {
+		return new SimpleReportEntry(JUnitGen5Provider.class.getName(), getClassNameOrUniqueId(testIdentifier));
 	}
 
 	private SimpleReportEntry createReportEntry(TestIdentifier testIdentifier) {
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.surefire;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.gen5.engine.JavaSource;
+import org.junit.gen5.launcher.TestIdentifier;
+import org.junit.gen5.launcher.TestPlan;
+
+/**
+ * Determines the surefire test sets of a {@link TestPlan}, i.e. the
+ * containers directly below each engine, which usually represent test
+ * classes.
+ */
+final class TestSets {
+
+	private TestSets() {
+		/* no-op */
+	}
+
+	static List<TestIdentifier> of(TestPlan testPlan) {
+		List<TestIdentifier> testSets = new ArrayList<>();
+		for (TestIdentifier root : testPlan.getRoots()) {
+			for (TestIdentifier engine : testPlan.getChildren(root)) {
+				testSets.addAll(testPlan.getChildren(engine));
+			}
+		}
+		return testSets;
+	}
+
+	static Optional<Class<?>> getJavaClass(TestIdentifier testIdentifier) {
+		// @formatter:off
+		return testIdentifier.getSource()
+				.filter(JavaSource.class::isInstance)
+				.map(JavaSource.class::cast)
+				.flatMap(JavaSource::getJavaClass);
+		// @formatter:on
+	}
+
+}